@@ -0,0 +1,36 @@
+package com.chess.benchmarks;
+
+import java.util.List;
+
+/**
+ * Corpus de positions réalistes (milieux de partie et finales) utilisé par les benchmarks.
+ */
+final class BenchmarkPositions {
+
+    static final List<String> MIDDLEGAMES = List.of(
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+            "r1bq1rk1/pp2bppp/2n1pn2/3p4/2PP4/2N1PN2/PP2BPPP/R2QKB1R w KQ - 3 9",
+            "r2qr1k1/1p1bbppp/p1np1n2/4p3/4P3/1NN1BP2/PPPQ2PP/2KR1B1R w - - 6 12",
+            "2rq1rk1/pb2bppp/1pn1pn2/2pp4/3P4/1PNBPN2/PB3PPP/2RQ1RK1 w - - 2 12"
+    );
+
+    static final List<String> ENDGAMES = List.of(
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "8/5pk1/6p1/8/3R4/6P1/5PKP/3r4 b - - 3 41",
+            "8/8/4k3/3p4/3P1K2/8/8/8 w - - 0 60",
+            "6k1/5p2/6p1/8/7P/6P1/5PK1/3b4 w - - 0 45",
+            "8/1p6/p1p2k2/P1P5/1P2K3/8/8/8 b - - 1 52"
+    );
+
+    static final List<String> ALL = concat(MIDDLEGAMES, ENDGAMES);
+
+    private BenchmarkPositions() {
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> all = new java.util.ArrayList<>(first);
+        all.addAll(second);
+        return List.copyOf(all);
+    }
+}
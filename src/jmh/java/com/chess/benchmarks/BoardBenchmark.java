@@ -0,0 +1,124 @@
+package com.chess.benchmarks;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.Position;
+import com.chess.core.entities.game.Board;
+import com.chess.core.entities.game.LegalMoveGenerator;
+import com.chess.core.entities.game.MoveList;
+import com.chess.core.entities.game.SanCodec;
+import com.chess.core.entities.pieces.Piece;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks des opérations du plateau sur l'ensemble du corpus de positions.
+ * <p>
+ * Chaque opération traite toutes les positions du corpus ; le score est donc un débit
+ * "corpus par seconde".
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    private String[] fens;
+    private Board[] boards;
+    private Color[] sides;
+    private Board scratch;
+    private final MoveList moveList = new MoveList();
+
+    @Setup
+    public void setUp() {
+        fens = BenchmarkPositions.ALL.toArray(new String[0]);
+        boards = new Board[fens.length];
+        sides = new Color[fens.length];
+        for (int i = 0; i < fens.length; i++) {
+            boards[i] = new Board();
+            boards[i].setupFromFen(fens[i]);
+            sides[i] = Color.fromFen(fens[i].split(" ")[1].charAt(0));
+        }
+        scratch = new Board();
+    }
+
+    @Benchmark
+    public void setupFromFen(Blackhole blackhole) {
+        for (String fen : fens) {
+            scratch.setupFromFen(fen);
+            blackhole.consume(scratch);
+        }
+    }
+
+    @Benchmark
+    public void toFen(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            blackhole.consume(boards[i].toFen(sides[i]));
+        }
+    }
+
+    @Benchmark
+    public void copy(Blackhole blackhole) {
+        for (Board board : boards) {
+            blackhole.consume(board.copy());
+        }
+    }
+
+    @Benchmark
+    public void isKingInCheck(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            blackhole.consume(boards[i].isKingInCheck(sides[i]));
+        }
+    }
+
+    /**
+     * Coups pseudo-légaux de toutes les pièces du camp au trait.
+     */
+    @Benchmark
+    public void pieceGetLegalMoves(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            Board board = boards[i];
+            for (int row = 0; row < 8; row++) {
+                for (int col = 0; col < 8; col++) {
+                    Position from = Position.of(row, col);
+                    Piece piece = board.getPieceAt(from);
+                    if (piece != null && piece.getColor() == sides[i]) {
+                        blackhole.consume(piece.getLegalMoves(from, board));
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void generateLegalMoves(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            blackhole.consume(LegalMoveGenerator.generateLegalMoves(boards[i], sides[i]));
+        }
+    }
+
+    @Benchmark
+    public void generateLegalMovesPacked(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            LegalMoveGenerator.generateLegalMoves(boards[i], sides[i], moveList);
+            blackhole.consume(moveList.size());
+        }
+    }
+
+    /**
+     * Écriture puis relecture en SAN de tous les coups légaux, une génération par position.
+     */
+    @Benchmark
+    public void sanRoundTrip(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            LegalMoveGenerator.generateLegalMoves(boards[i], sides[i], moveList);
+            for (int j = 0; j < moveList.size(); j++) {
+                String san = SanCodec.toSan(boards[i], sides[i], moveList.get(j), moveList);
+                blackhole.consume(SanCodec.fromSan(boards[i], san, moveList));
+            }
+        }
+    }
+}
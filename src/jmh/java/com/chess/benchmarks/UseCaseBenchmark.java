@@ -0,0 +1,70 @@
+package com.chess.benchmarks;
+
+import com.chess.core.entities.game.GameState;
+import com.chess.core.entities.game.LegalMoveGenerator;
+import com.chess.core.entities.game.Move;
+import com.chess.core.usecases.DrawDetectorUseCase;
+import com.chess.core.usecases.MovePieceInteractor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks des cas d'usage : exécution d'un coup et détection de nulle.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UseCaseBenchmark {
+
+    private String[] fens;
+    private Move[] firstMoves;
+    private GameState[] gameStates;
+    private MovePieceInteractor interactor;
+    private DrawDetectorUseCase drawDetector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fens = BenchmarkPositions.ALL.toArray(new String[0]);
+        firstMoves = new Move[fens.length];
+        gameStates = new GameState[fens.length];
+        for (int i = 0; i < fens.length; i++) {
+            gameStates[i] = new GameState();
+            gameStates[i].initializeFromFen(fens[i]);
+            firstMoves[i] = LegalMoveGenerator.generateLegalMoves(
+                    gameStates[i].getBoard(), gameStates[i].getActivePlayer()).get(0);
+        }
+        interactor = new MovePieceInteractor(null, null);
+        drawDetector = new DrawDetectorUseCase();
+    }
+
+    /**
+     * Remet chaque partie dans sa position de départ avant d'y rejouer un coup.
+     */
+    @Setup(Level.Invocation)
+    public void resetGames() {
+        for (int i = 0; i < fens.length; i++) {
+            gameStates[i].initializeFromFen(fens[i]);
+        }
+    }
+
+    @Benchmark
+    public void movePieceExecute(Blackhole blackhole) {
+        for (int i = 0; i < gameStates.length; i++) {
+            Move move = firstMoves[i];
+            blackhole.consume(interactor.execute(gameStates[i], move.getFrom(), move.getTo(),
+                    move.getPromotionPiece()));
+        }
+    }
+
+    @Benchmark
+    public void checkForDraw(Blackhole blackhole) {
+        for (GameState gameState : gameStates) {
+            blackhole.consume(drawDetector.checkForDraw(gameState));
+        }
+    }
+}
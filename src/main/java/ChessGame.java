@@ -1,13 +1,29 @@
 import com.chess.configuration.AppConfig;
 import com.chess.entrypoints.console.ConsoleController;
+import com.chess.entrypoints.console.LoadTestCommand;
+import com.chess.entrypoints.console.PerftCommand;
 import com.chess.entrypoints.gui.GuiController;
 
+import java.util.Arrays;
+
 /**
  * Classe principale pour lancer le jeu d'échecs.
  */
 public class ChessGame {
 
     public static void main(String[] args) {
+        // Outil perft : ne nécessite ni moteur ni configuration
+        if (args.length > 0 && args[0].equals("--perft")) {
+            PerftCommand.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        // Test de charge : parties simulées sans moteur ni interface
+        if (args.length > 0 && args[0].equals("--load")) {
+            LoadTestCommand.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
         // Configuration de l'application (injection de dépendances)
         AppConfig config = new AppConfig();
 
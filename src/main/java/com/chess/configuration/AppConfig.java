@@ -7,21 +7,33 @@ import com.chess.core.usecases.AnalyzePositionUseCase;
 import com.chess.core.usecases.GetBestMoveUseCase;
 import com.chess.core.usecases.MovePieceInteractor;
 import com.chess.core.usecases.MovePieceUseCase;
+import com.chess.dataproviders.cache.CachingChessEngine;
+import com.chess.dataproviders.cache.EvaluationCache;
 import com.chess.dataproviders.file.FileGameRepository;
 import com.chess.dataproviders.file.FileMoveLogger;
-import com.chess.dataproviders.stockfish.StockfishEngine;
+import com.chess.dataproviders.stockfish.StockfishEnginePool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * Configuration centralisée de l'application.
  * Implémente l'injection de dépendances manuelle (Clean Architecture).
  */
 public class AppConfig {
+    private static final Logger logger = LoggerFactory.getLogger(AppConfig.class);
     private static final String SAVE_DIRECTORY = "./saves";
     private static final String LOG_DIRECTORY = "./logs";
+    private static final String CACHE_DIRECTORY = "./cache";
+    private static final String CACHE_FILE = "evaluations.cache";
 
     private final GameRepository gameRepository;
     private final MoveLogger moveLogger;
     private final ChessEngine chessEngine;
+    // Cache devant le moteur, null quand le moteur est fourni (tests)
+    private final EvaluationCache evaluationCache;
 
     private final MovePieceUseCase movePieceUseCase;
     private final GetBestMoveUseCase getBestMoveUseCase;
@@ -31,7 +43,9 @@ public class AppConfig {
      * Constructeur qui initialise toutes les dépendances.
      */
     public AppConfig() {
-        this.chessEngine = new StockfishEngine(); // Remplacez par votre implémentation
+        // Un processus Stockfish par partie en cours, dans la limite du pool, derrière le cache
+        this.evaluationCache = openEvaluationCache(CACHE_DIRECTORY);
+        this.chessEngine = new CachingChessEngine(new StockfishEnginePool(), evaluationCache); // Remplacez par votre implémentation
 
         // Dataproviders (Adapters)
         this.gameRepository = new FileGameRepository(SAVE_DIRECTORY);
@@ -49,15 +63,51 @@ public class AppConfig {
     public AppConfig(GameRepository gameRepository,
                      MoveLogger moveLogger,
                      ChessEngine chessEngine) {
+        this(gameRepository, moveLogger, chessEngine, null);
+    }
+
+    private AppConfig(GameRepository gameRepository,
+                      MoveLogger moveLogger,
+                      ChessEngine chessEngine,
+                      EvaluationCache evaluationCache) {
         this.gameRepository = gameRepository;
         this.moveLogger = moveLogger;
         this.chessEngine = chessEngine;
+        this.evaluationCache = evaluationCache;
 
         this.movePieceUseCase = new MovePieceInteractor(moveLogger,chessEngine);
         this.getBestMoveUseCase = new GetBestMoveUseCase(chessEngine);
         this.analyzePositionUseCase = new AnalyzePositionUseCase(chessEngine);
     }
 
+    /**
+     * Configuration dont les sauvegardes et les journaux sont écrits sous le répertoire donné
+     * (sous-répertoires {@code saves}, {@code logs} et {@code cache}), par exemple pour un test
+     * de charge.
+     */
+    public static AppConfig withBaseDirectory(String baseDirectory) {
+        EvaluationCache cache = openEvaluationCache(baseDirectory + "/cache");
+        return new AppConfig(
+                new FileGameRepository(baseDirectory + "/saves"),
+                new FileMoveLogger(baseDirectory + "/logs"),
+                new CachingChessEngine(new StockfishEnginePool(), cache),
+                cache);
+    }
+
+    /**
+     * Ouvre le cache d'évaluations du répertoire donné. Si son fichier ne peut pas être ouvert,
+     * le cache reste en mémoire seulement.
+     */
+    private static EvaluationCache openEvaluationCache(String cacheDirectory) {
+        try {
+            return EvaluationCache.open(Path.of(cacheDirectory, CACHE_FILE),
+                    EvaluationCache.DEFAULT_MEMORY_CAPACITY, EvaluationCache.DEFAULT_DISK_SLOTS);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Cache d'évaluations sur disque indisponible, cache en mémoire seulement", e);
+            return EvaluationCache.inMemory(EvaluationCache.DEFAULT_MEMORY_CAPACITY);
+        }
+    }
+
     // Getters pour les use cases
 
     public MovePieceUseCase getMovePieceUseCase() {
@@ -103,5 +153,12 @@ public class AppConfig {
         if (chessEngine.isReady()) {
             chessEngine.stop();
         }
+        if (evaluationCache != null) {
+            try {
+                evaluationCache.close();
+            } catch (IOException e) {
+                logger.error("Erreur lors de la fermeture du cache d'évaluations", e);
+            }
+        }
     }
 }
\ No newline at end of file
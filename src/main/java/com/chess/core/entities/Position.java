@@ -1,20 +1,51 @@
 package com.chess.core.entities;
 
-import java.util.Objects;
-
 /**
  * Représente une position sur le plateau d'échecs (ex: e4, a1, h8).
+ * <p>
+ * Les 64 positions sont des instances canoniques obtenues par {@link #of(int, int)} ou
+ * {@link #of(int)} : elles ne sont jamais allouées à nouveau et deux positions égales sont
+ * la même instance.
  */
-public class Position {
+public final class Position {
+    private static final Position[] SQUARES = new Position[64];
+
+    static {
+        for (int index = 0; index < 64; index++) {
+            SQUARES[index] = new Position(index >>> 3, index & 7);
+        }
+    }
+
     private final int row; // 0-7 (1-8 sur l'échiquier)
     private final int col; // 0-7 (a-h sur l'échiquier)
+    private final int index; // row * 8 + col
+    private final String algebraic;
 
-    public Position(int row, int col) {
+    private Position(int row, int col) {
+        this.row = row;
+        this.col = col;
+        this.index = row * 8 + col;
+        this.algebraic = "" + (char) ('a' + col) + (char) ('1' + row);
+    }
+
+    /**
+     * Retourne la position canonique de la case donnée.
+     */
+    public static Position of(int row, int col) {
         if (row < 0 || row > 7 || col < 0 || col > 7) {
             throw new IllegalArgumentException("Position invalide: row=" + row + ", col=" + col);
         }
-        this.row = row;
-        this.col = col;
+        return SQUARES[row * 8 + col];
+    }
+
+    /**
+     * Retourne la position canonique d'un indice de case (0 = a1, 63 = h8).
+     */
+    public static Position of(int index) {
+        if (index < 0 || index > 63) {
+            throw new IllegalArgumentException("Indice de case invalide: " + index);
+        }
+        return SQUARES[index];
     }
 
     /**
@@ -31,18 +62,14 @@ public class Position {
             throw new IllegalArgumentException("Notation invalide: " + notation);
         }
 
-        int col = colChar - 'a';
-        int row = rowChar - '1';
-        return new Position(row, col);
+        return SQUARES[(rowChar - '1') * 8 + (colChar - 'a')];
     }
 
     /**
      * Convertit la position en notation algébrique (ex: "e4").
      */
     public String toAlgebraic() {
-        char colChar = (char) ('a' + col);
-        char rowChar = (char) ('1' + row);
-        return "" + colChar + rowChar;
+        return algebraic;
     }
 
     public int getRow() {
@@ -53,6 +80,13 @@ public class Position {
         return col;
     }
 
+    /**
+     * Indice de la case (ligne * 8 + colonne), tel qu'utilisé par les bitboards.
+     */
+    public int index() {
+        return index;
+    }
+
     /**
      * Vérifie si la position est valide sur le plateau.
      */
@@ -76,15 +110,13 @@ public class Position {
 
     @Override
     public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Position position = (Position) o;
-        return row == position.row && col == position.col;
+        // Instances canoniques : l'égalité est l'identité
+        return this == o;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(row, col);
+        return index;
     }
 
     @Override
@@ -0,0 +1,231 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+
+/**
+ * Tables d'attaques précalculées pour toutes les pièces.
+ * <p>
+ * Les cavaliers, rois et pions utilisent un masque par case. Les pièces glissantes
+ * (tour, fou, dame) utilisent des "magic bitboards" : l'occupation pertinente est
+ * multipliée par un nombre magique pour obtenir directement l'index de la table d'attaques.
+ * Les tables {@code between} et {@code line} servent aux tests d'alignement (clouages, échecs).
+ */
+public final class AttackTables {
+    private static final long FILE_A = 0x0101010101010101L;
+    private static final long FILE_H = FILE_A << 7;
+    private static final long RANK_1 = 0xFFL;
+    private static final long RANK_8 = RANK_1 << 56;
+
+    private static final int[][] ORTHOGONAL_DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+    private static final int[][] DIAGONAL_DIRECTIONS = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+
+    private static final long[] KNIGHT = new long[64];
+    private static final long[] KING = new long[64];
+    private static final long[][] PAWN = new long[2][64];
+
+    /**
+     * Nombres magiques des tours et des fous, obtenus hors ligne par recherche aléatoire
+     * de multiplicateurs "creux" sans collision destructive.
+     */
+    private static final long[] ROOK_MAGIC_NUMBERS = {
+            0x1080004008801020L, 0x0840092002C03000L, 0x1900200010400900L, 0x0880100008000480L,
+            0x4200100420080200L, 0x8100020100080400L, 0x0200040110886200L, 0x0200008040220411L,
+            0x0404800084400220L, 0x0000401000402000L, 0x0086001081220440L, 0x0408800800100280L,
+            0x000A001201040820L, 0x8848800200840080L, 0x4001000100040200L, 0x0442000102105084L,
+            0x9080010020804100L, 0x0040404000201009L, 0x0000808010002009L, 0x2200090021D00100L,
+            0x0008008008040080L, 0x0004004002010040L, 0x0011040008015042L, 0x00000A0001768104L,
+            0x0000800080204009L, 0x2010004140002001L, 0x9800200280100080L, 0x1000100080080080L,
+            0x0050500500080100L, 0x0000020080040080L, 0x0C10010400420810L, 0x1040008200005104L,
+            0x01808240088004A0L, 0x0882804004802000L, 0x0880402001001100L, 0x2000210409001000L,
+            0x2000480131001500L, 0x0000800400800200L, 0x000002380C001003L, 0x4600084882000431L,
+            0x0080002000504000L, 0x0300500020004002L, 0x0040408200220011L, 0x0010040008004040L,
+            0x0000080004008080L, 0x0010040002008080L, 0x2012004881020004L, 0x8300842444820011L,
+            0x0088403882010200L, 0x0820400080210100L, 0x0110910040A00300L, 0x0801100280080480L,
+            0x0242009008200600L, 0x1002000489500200L, 0x0040800200010080L, 0x0091800041000080L,
+            0x0000209300488001L, 0x04C1002414824001L, 0x020020000B001041L, 0x7000100004200901L,
+            0x8002002004100802L, 0x30010002084C0007L, 0x0888221800813004L, 0x4000002840840112L
+    };
+    private static final long[] BISHOP_MAGIC_NUMBERS = {
+            0x20C0090901061081L, 0x0024040094030104L, 0x8210810200290200L, 0x0011040484620000L,
+            0x0081104002221000L, 0x0009012011001350L, 0x0081010802400380L, 0x0000420210010408L,
+            0x0008105002280050L, 0x0001028484040044L, 0x2A00880810408804L, 0x7020022282000100L,
+            0x0084040420100A50L, 0x000401010840E000L, 0x2020020210420888L, 0x0008084202012010L,
+            0x2010400810018800L, 0x0445122008020840L, 0x0804100808002008L, 0x0008002104110100L,
+            0x0061005820080800L, 0x2001000200820100L, 0x480C210084010800L, 0x3004442500480420L,
+            0x1010102240048100L, 0x00182009084220A3L, 0x8803090A10004205L, 0x0208080040202020L,
+            0x000C044084010040L, 0x00A1010002004106L, 0x6008210020640202L, 0x1600902112860801L,
+            0x00042008C1220200L, 0x010C042002440140L, 0x5022080200040820L, 0x0402004042940100L,
+            0x0860108400008020L, 0x000C080022021000L, 0x0264080652822100L, 0x4005031221010401L,
+            0x0004502410008400L, 0x000500B010A20400L, 0x0415094050080800L, 0x080000201800A104L,
+            0x4022A80304000110L, 0x4012140802028020L, 0x40200104010100A0L, 0x12810806008B0C41L,
+            0x0020441008080000L, 0x2002120084045420L, 0x0704020062080002L, 0x0000001084040001L,
+            0x0322200891240200L, 0xF040200210024800L, 0x0140824832008042L, 0x000210020A004602L,
+            0x0083042805141020L, 0x002C12009A011000L, 0x0041A00044140400L, 0x00004004020A0202L,
+            0x0000140010020210L, 0x2864160811012200L, 0x2060080841082A17L, 0xA010041108003100L
+    };
+
+    private static final Magic[] ROOK_MAGICS = new Magic[64];
+    private static final Magic[] BISHOP_MAGICS = new Magic[64];
+
+    private static final long[][] BETWEEN = new long[64][64];
+    private static final long[][] LINE = new long[64][64];
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            long bit = 1L << square;
+            KNIGHT[square] = stepAttacks(square, new int[][]{
+                    {2, 1}, {2, -1}, {-2, 1}, {-2, -1}, {1, 2}, {1, -2}, {-1, 2}, {-1, -2}});
+            KING[square] = stepAttacks(square, new int[][]{
+                    {1, 0}, {-1, 0}, {0, 1}, {0, -1}, {1, 1}, {1, -1}, {-1, 1}, {-1, -1}});
+            PAWN[Color.WHITE.ordinal()][square] = ((bit << 7) & ~FILE_H) | ((bit << 9) & ~FILE_A);
+            PAWN[Color.BLACK.ordinal()][square] = ((bit >>> 9) & ~FILE_H) | ((bit >>> 7) & ~FILE_A);
+        }
+
+        for (int square = 0; square < 64; square++) {
+            ROOK_MAGICS[square] = Magic.build(square, ROOK_MAGIC_NUMBERS[square], ORTHOGONAL_DIRECTIONS);
+            BISHOP_MAGICS[square] = Magic.build(square, BISHOP_MAGIC_NUMBERS[square], DIAGONAL_DIRECTIONS);
+        }
+
+        for (int from = 0; from < 64; from++) {
+            for (int to = 0; to < 64; to++) {
+                if (from == to) {
+                    continue;
+                }
+                long target = 1L << to;
+                if ((rookAttacks(from, 0L) & target) != 0L) {
+                    BETWEEN[from][to] = rookAttacks(from, target) & rookAttacks(to, 1L << from);
+                    LINE[from][to] = (rookAttacks(from, 0L) & rookAttacks(to, 0L)) | (1L << from) | target;
+                } else if ((bishopAttacks(from, 0L) & target) != 0L) {
+                    BETWEEN[from][to] = bishopAttacks(from, target) & bishopAttacks(to, 1L << from);
+                    LINE[from][to] = (bishopAttacks(from, 0L) & bishopAttacks(to, 0L)) | (1L << from) | target;
+                }
+            }
+        }
+    }
+
+    private AttackTables() {
+    }
+
+    public static long knightAttacks(int square) {
+        return KNIGHT[square];
+    }
+
+    public static long kingAttacks(int square) {
+        return KING[square];
+    }
+
+    /**
+     * Cases attaquées par un pion de la couleur donnée placé sur la case.
+     */
+    public static long pawnAttacks(Color color, int square) {
+        return PAWN[color.ordinal()][square];
+    }
+
+    public static long rookAttacks(int square, long occupancy) {
+        return ROOK_MAGICS[square].attacks(occupancy);
+    }
+
+    public static long bishopAttacks(int square, long occupancy) {
+        return BISHOP_MAGICS[square].attacks(occupancy);
+    }
+
+    public static long queenAttacks(int square, long occupancy) {
+        return rookAttacks(square, occupancy) | bishopAttacks(square, occupancy);
+    }
+
+    /**
+     * Cases strictement comprises entre deux cases alignées (0 si non alignées).
+     */
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    /**
+     * Ligne complète (bords inclus) passant par deux cases alignées (0 si non alignées).
+     */
+    public static long line(int from, int to) {
+        return LINE[from][to];
+    }
+
+    private static long stepAttacks(int square, int[][] offsets) {
+        long attacks = 0L;
+        for (int[] offset : offsets) {
+            int row = (square >>> 3) + offset[0];
+            int col = (square & 7) + offset[1];
+            if (row >= 0 && row <= 7 && col >= 0 && col <= 7) {
+                attacks |= 1L << (row * 8 + col);
+            }
+        }
+        return attacks;
+    }
+
+    /**
+     * Calcul lent des attaques d'une pièce glissante, utilisé uniquement pour remplir les tables.
+     */
+    private static long slidingAttacks(int square, long occupancy, int[][] directions) {
+        long attacks = 0L;
+        for (int[] dir : directions) {
+            int row = (square >>> 3) + dir[0];
+            int col = (square & 7) + dir[1];
+            while (row >= 0 && row <= 7 && col >= 0 && col <= 7) {
+                long bit = 1L << (row * 8 + col);
+                attacks |= bit;
+                if ((occupancy & bit) != 0L) {
+                    break;
+                }
+                row += dir[0];
+                col += dir[1];
+            }
+        }
+        return attacks;
+    }
+
+    /**
+     * Masque des cases dont l'occupation influence les attaques (bords exclus).
+     */
+    private static long relevantMask(int square, int[][] directions) {
+        long edges = ((RANK_1 | RANK_8) & ~(RANK_1 << (8 * (square >>> 3))))
+                | ((FILE_A | FILE_H) & ~(FILE_A << (square & 7)));
+        return slidingAttacks(square, 0L, directions) & ~edges;
+    }
+
+    /**
+     * Entrée magique d'une case : masque, multiplicateur, décalage et table d'attaques.
+     */
+    private static final class Magic {
+        private final long mask;
+        private final long magic;
+        private final int shift;
+        private final long[] attacks;
+
+        private Magic(long mask, long magic, int shift, long[] attacks) {
+            this.mask = mask;
+            this.magic = magic;
+            this.shift = shift;
+            this.attacks = attacks;
+        }
+
+        private long attacks(long occupancy) {
+            return attacks[(int) (((occupancy & mask) * magic) >>> shift)];
+        }
+
+        /**
+         * Remplit la table d'attaques d'une case en énumérant tous les sous-ensembles du masque.
+         */
+        private static Magic build(int square, long magic, int[][] directions) {
+            long mask = relevantMask(square, directions);
+            int bits = Long.bitCount(mask);
+            int shift = 64 - bits;
+            long[] table = new long[1 << bits];
+
+            // Énumération Carry-Rippler des sous-ensembles du masque
+            long subset = 0L;
+            do {
+                table[(int) ((subset * magic) >>> shift)] = slidingAttacks(square, subset, directions);
+                subset = (subset - mask) & mask;
+            } while (subset != 0L);
+
+            return new Magic(mask, magic, shift, table);
+        }
+    }
+}
@@ -8,17 +8,59 @@ import java.util.*;
 
 /**
  * Représente le plateau d'échecs 8x8 avec support de la notation FEN.
+ * <p>
+ * Le plateau est stocké sous forme de bitboards : un mot de 64 bits par type de pièce
+ * et par couleur, plus des mots d'occupation agrégés. La case d'index {@code row * 8 + col}
+ * correspond au bit de même rang (a1 = 0, h8 = 63).
  */
 public class Board {
-    private final Tile[][] tiles;
+    private static final int PIECE_TYPE_COUNT = PieceType.values().length;
+
+    // Bits des droits de roque
+    static final int WHITE_KING_SIDE = 1;
+    static final int WHITE_QUEEN_SIDE = 2;
+    static final int BLACK_KING_SIDE = 4;
+    static final int BLACK_QUEEN_SIDE = 8;
+    private static final int ALL_CASTLING = 15;
+
+    // 64 pièces et séparateurs, champs de fin et compteurs : largement sous cette borne
+    private static final int FEN_MAX_LENGTH = 128;
+
+    // Droits de roque conservés quand une pièce quitte ou atteint la case
+    private static final int[] CASTLING_MASK_BY_SQUARE = new int[64];
+
+    static {
+        Arrays.fill(CASTLING_MASK_BY_SQUARE, ALL_CASTLING);
+        CASTLING_MASK_BY_SQUARE[0] = ALL_CASTLING & ~WHITE_QUEEN_SIDE;
+        CASTLING_MASK_BY_SQUARE[4] = ALL_CASTLING & ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        CASTLING_MASK_BY_SQUARE[7] = ALL_CASTLING & ~WHITE_KING_SIDE;
+        CASTLING_MASK_BY_SQUARE[56] = ALL_CASTLING & ~BLACK_QUEEN_SIDE;
+        CASTLING_MASK_BY_SQUARE[60] = ALL_CASTLING & ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        CASTLING_MASK_BY_SQUARE[63] = ALL_CASTLING & ~BLACK_KING_SIDE;
+    }
+
+    private final long[] pieceBitboards; // index = couleur * 6 + type
+    private final long[] colorBitboards;
+    private long occupied;
+    private final Piece[] squares; // case -> pièce, pour un accès direct
+    private final int[] kingSquares; // case du roi par couleur, -1 si absent
     private Position enPassantTarget;
-    private final Map<Color, CastlingRights> castlingRights;
+    private int castlingMask;
+    private final CastlingRights[] castlingRights; // vues sur castlingMask, par couleur
     private int halfMoveClock; // Pour la règle des 50 coups
     private int fullMoveNumber;
+    private long zobristKey; // pièces, droits de roque et prise en passant (sans le trait)
+    private long materialKey; // voir MaterialKey
 
     public Board() {
-        this.tiles = new Tile[8][8];
-        this.castlingRights = new EnumMap<>(Color.class);
+        this.pieceBitboards = new long[2 * PIECE_TYPE_COUNT];
+        this.colorBitboards = new long[2];
+        this.squares = new Piece[64];
+        this.kingSquares = new int[2];
+        this.castlingRights = new CastlingRights[]{
+                new CastlingRights(this, WHITE_KING_SIDE, WHITE_QUEEN_SIDE),
+                new CastlingRights(this, BLACK_KING_SIDE, BLACK_QUEEN_SIDE)
+        };
         initializeEmptyBoard();
     }
 
@@ -26,13 +68,15 @@ public class Board {
      * Initialise un plateau vide.
      */
     private void initializeEmptyBoard() {
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                tiles[row][col] = new Tile(new Position(row, col));
-            }
-        }
-        castlingRights.put(Color.WHITE, new CastlingRights());
-        castlingRights.put(Color.BLACK, new CastlingRights());
+        Arrays.fill(pieceBitboards, 0L);
+        Arrays.fill(colorBitboards, 0L);
+        Arrays.fill(squares, null);
+        Arrays.fill(kingSquares, -1);
+        occupied = 0L;
+        enPassantTarget = null;
+        castlingMask = ALL_CASTLING;
+        zobristKey = Zobrist.CASTLING[ALL_CASTLING];
+        materialKey = 0L;
         halfMoveClock = 0;
         fullMoveNumber = 1;
     }
@@ -46,248 +90,563 @@ public class Board {
 
     /**
      * Configure le plateau à partir d'une chaîne FEN.
+     * Les pièces déjà présentes sont retirées au préalable.
+     * <p>
+     * La chaîne est lue en un seul passage, caractère par caractère, sans découpage.
      */
     public void setupFromFen(String fen) {
-        String[] parts = fen.split(" ");
-        if (parts.length < 4) {
+        int piecesEnd = fen.indexOf(' ');
+        int activeEnd = piecesEnd < 0 ? -1 : fen.indexOf(' ', piecesEnd + 1);
+        int castlingEnd = activeEnd < 0 ? -1 : fen.indexOf(' ', activeEnd + 1);
+        if (castlingEnd < 0) {
             throw new IllegalArgumentException("FEN invalide: " + fen);
         }
+        int enPassantEnd = fieldEnd(fen, castlingEnd + 1);
+        Position enPassant = parseSquare(fen, castlingEnd + 1, enPassantEnd);
+        initializeEmptyBoard();
 
         // 1. Position des pièces
-        setupPiecesFromFen(parts[0]);
+        setupPiecesFromFen(fen, piecesEnd);
 
         // 2. Tour actif (w/b) - géré dans GameState
 
         // 3. Droits de roque
-        setupCastlingRights(parts[2]);
+        setupCastlingRights(fen, activeEnd + 1, castlingEnd);
 
-        // 4. Case de prise en passant
-        if (!parts[3].equals("-")) {
-            enPassantTarget = Position.fromAlgebraic(parts[3]);
+        // 4. Case de prise en passant (gardée seulement si un pion peut prendre, comme après un coup)
+        if (enPassant != null) {
+            Color mover = enPassant.getRow() == 2 ? Color.WHITE : Color.BLACK;
+            setEnPassantTarget(canCaptureEnPassant(enPassant.index(), mover) ? enPassant : null);
         } else {
-            enPassantTarget = null;
+            setEnPassantTarget(null);
         }
 
         // 5. Compteur de demi-coups
-        if (parts.length > 4) {
-            halfMoveClock = Integer.parseInt(parts[4]);
-        }
+        if (enPassantEnd < fen.length()) {
+            int halfMoveEnd = fieldEnd(fen, enPassantEnd + 1);
+            halfMoveClock = Integer.parseInt(fen, enPassantEnd + 1, halfMoveEnd, 10);
 
-        // 6. Numéro de coup complet
-        if (parts.length > 5) {
-            fullMoveNumber = Integer.parseInt(parts[5]);
+            // 6. Numéro de coup complet
+            if (halfMoveEnd < fen.length()) {
+                fullMoveNumber = Integer.parseInt(fen, halfMoveEnd + 1, fieldEnd(fen, halfMoveEnd + 1), 10);
+            }
         }
     }
 
     /**
-     * Configure les pièces à partir de la partie FEN de la position.
+     * Configure les pièces à partir de la partie FEN de la position (caractères 0 à end exclu).
      */
-    private void setupPiecesFromFen(String piecePlacement) {
-        String[] ranks = piecePlacement.split("/");
-        for (int row = 7; row >= 0; row--) {
-            int col = 0;
-            String rank = ranks[7 - row];
-
-            for (char c : rank.toCharArray()) {
-                if (Character.isDigit(c)) {
-                    col += Character.getNumericValue(c);
-                } else {
-                    Color color = Character.isUpperCase(c) ? Color.WHITE : Color.BLACK;
-                    PieceType type = PieceType.fromFen(c);
-                    Piece piece = createPiece(type, color);
-                    placePiece(piece, new Position(row, col));
-                    col++;
+    private void setupPiecesFromFen(String fen, int end) {
+        int row = 7;
+        int col = 0;
+        for (int i = 0; i < end; i++) {
+            char c = fen.charAt(i);
+            if (c == '/') {
+                row--;
+                col = 0;
+            } else if (c >= '1' && c <= '8') {
+                col += c - '0';
+            } else {
+                if (row < 0 || col > 7) {
+                    throw new IllegalArgumentException("FEN invalide: " + fen);
                 }
+                Color color = Character.isUpperCase(c) ? Color.WHITE : Color.BLACK;
+                putPiece(Piece.of(PieceType.fromFen(c), color), row * 8 + col);
+                col++;
             }
         }
     }
 
     /**
-     * Crée une pièce selon son type et sa couleur.
+     * Configure les droits de roque à partir de la notation FEN (caractères start à end exclu).
      */
-    private Piece createPiece(PieceType type, Color color) {
-        return switch (type) {
-            case KING -> new King(color);
-            case QUEEN -> new Queen(color);
-            case ROOK -> new Rook(color);
-            case BISHOP -> new Bishop(color);
-            case KNIGHT -> new Knight(color);
-            case PAWN -> new Pawn(color);
-        };
+    private void setupCastlingRights(String fen, int start, int end) {
+        int mask = 0;
+        for (int i = start; i < end; i++) {
+            switch (fen.charAt(i)) {
+                case 'K' -> mask |= WHITE_KING_SIDE;
+                case 'Q' -> mask |= WHITE_QUEEN_SIDE;
+                case 'k' -> mask |= BLACK_KING_SIDE;
+                case 'q' -> mask |= BLACK_QUEEN_SIDE;
+                default -> {
+                    // '-' : aucun droit
+                }
+            }
+        }
+        setCastlingMask(mask);
     }
 
     /**
-     * Configure les droits de roque à partir de la notation FEN.
+     * Lit une case en notation algébrique ("-" pour aucune).
      */
-    private void setupCastlingRights(String castlingStr) {
-        CastlingRights white = new CastlingRights();
-        CastlingRights black = new CastlingRights();
-
-        if (!castlingStr.equals("-")) {
-            white.setKingSide(castlingStr.contains("K"));
-            white.setQueenSide(castlingStr.contains("Q"));
-            black.setKingSide(castlingStr.contains("k"));
-            black.setQueenSide(castlingStr.contains("q"));
+    private static Position parseSquare(String fen, int start, int end) {
+        if (end - start == 1 && fen.charAt(start) == '-') {
+            return null;
         }
+        char file = end - start == 2 ? fen.charAt(start) : 0;
+        char rank = end - start == 2 ? fen.charAt(start + 1) : 0;
+        if (file < 'a' || file > 'h' || rank < '1' || rank > '8') {
+            throw new IllegalArgumentException("Notation invalide: " + fen.substring(start, end));
+        }
+        return Position.of(rank - '1', file - 'a');
+    }
 
-        castlingRights.put(Color.WHITE, white);
-        castlingRights.put(Color.BLACK, black);
+    private static int fieldEnd(String fen, int start) {
+        int end = fen.indexOf(' ', start);
+        return end < 0 ? fen.length() : end;
     }
 
     /**
      * Convertit le plateau en notation FEN.
+     * <p>
+     * La chaîne est écrite dans un tampon local de taille fixe : la méthode ne modifie pas le
+     * plateau et peut être appelée par plusieurs lecteurs à la fois.
      */
     public String toFen(Color activeColor) {
-        StringBuilder fen = new StringBuilder();
+        char[] fen = new char[FEN_MAX_LENGTH];
+        int length = 0;
 
         // 1. Position des pièces
         for (int row = 7; row >= 0; row--) {
             int emptyCount = 0;
             for (int col = 0; col < 8; col++) {
-                Piece piece = getPieceAt(new Position(row, col));
+                Piece piece = squares[row * 8 + col];
                 if (piece == null) {
                     emptyCount++;
                 } else {
                     if (emptyCount > 0) {
-                        fen.append(emptyCount);
+                        fen[length++] = (char) ('0' + emptyCount);
                         emptyCount = 0;
                     }
-                    fen.append(piece.toFen());
+                    fen[length++] = piece.toFen();
                 }
             }
             if (emptyCount > 0) {
-                fen.append(emptyCount);
+                fen[length++] = (char) ('0' + emptyCount);
             }
             if (row > 0) {
-                fen.append('/');
+                fen[length++] = '/';
             }
         }
 
         // 2. Tour actif
-        fen.append(' ').append(activeColor.toFen());
+        fen[length++] = ' ';
+        fen[length++] = activeColor.toFen();
 
         // 3. Droits de roque
-        fen.append(' ').append(getCastlingRightsString());
+        fen[length++] = ' ';
+        if (castlingMask == 0) {
+            fen[length++] = '-';
+        } else {
+            if ((castlingMask & WHITE_KING_SIDE) != 0) fen[length++] = 'K';
+            if ((castlingMask & WHITE_QUEEN_SIDE) != 0) fen[length++] = 'Q';
+            if ((castlingMask & BLACK_KING_SIDE) != 0) fen[length++] = 'k';
+            if ((castlingMask & BLACK_QUEEN_SIDE) != 0) fen[length++] = 'q';
+        }
 
         // 4. Case de prise en passant
-        fen.append(' ').append(enPassantTarget != null ? enPassantTarget.toAlgebraic() : "-");
+        fen[length++] = ' ';
+        if (enPassantTarget != null) {
+            fen[length++] = (char) ('a' + enPassantTarget.getCol());
+            fen[length++] = (char) ('1' + enPassantTarget.getRow());
+        } else {
+            fen[length++] = '-';
+        }
 
         // 5. Compteur de demi-coups
-        fen.append(' ').append(halfMoveClock);
+        fen[length++] = ' ';
+        length = appendNumber(fen, length, halfMoveClock);
 
         // 6. Numéro de coup complet
-        fen.append(' ').append(fullMoveNumber);
+        fen[length++] = ' ';
+        length = appendNumber(fen, length, fullMoveNumber);
 
-        return fen.toString();
+        return new String(fen, 0, length);
     }
 
     /**
-     * Génère la chaîne des droits de roque pour la notation FEN.
+     * Écrit un entier positif en décimal dans le tampon et retourne la nouvelle longueur.
      */
-    private String getCastlingRightsString() {
-        StringBuilder castling = new StringBuilder();
-        CastlingRights white = castlingRights.get(Color.WHITE);
-        CastlingRights black = castlingRights.get(Color.BLACK);
+    private static int appendNumber(char[] buffer, int length, int value) {
+        if (value < 10) {
+            buffer[length++] = (char) ('0' + value);
+            return length;
+        }
+        int digits = 0;
+        for (int v = value; v > 0; v /= 10) {
+            digits++;
+        }
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return length + digits;
+    }
 
-        if (white.canCastleKingSide()) castling.append('K');
-        if (white.canCastleQueenSide()) castling.append('Q');
-        if (black.canCastleKingSide()) castling.append('k');
-        if (black.canCastleQueenSide()) castling.append('q');
+    public Piece getPieceAt(Position position) {
+        return squares[position.index()];
+    }
 
-        return castling.length() > 0 ? castling.toString() : "-";
+    /**
+     * Retourne la pièce située sur la case d'indice donné (ligne * 8 + colonne), ou null.
+     */
+    public Piece getPieceAt(int square) {
+        return squares[square];
     }
 
-    public Piece getPieceAt(Position position) {
-        if (!position.isValid()) {
+    public void placePiece(Piece piece, Position position) {
+        int square = position.index();
+        if (squares[square] != null) {
+            clearSquare(square);
+        }
+        if (piece != null) {
+            putPiece(piece, square);
+        }
+    }
+
+    public Piece removePiece(Position position) {
+        int square = position.index();
+        if (squares[square] == null) {
             return null;
         }
-        return tiles[position.getRow()][position.getCol()].getPiece();
+        return clearSquare(square);
     }
 
-    public void placePiece(Piece piece, Position position) {
-        tiles[position.getRow()][position.getCol()].setPiece(piece);
+    /**
+     * Joue un coup sur le plateau et retourne de quoi l'annuler avec {@link #unmakeMove}.
+     */
+    public UndoInfo makeMove(Move move) {
+        UndoInfo undo = new UndoInfo();
+        makeMove(move.getFrom(), move.getTo(), move.getPromotionPiece(), undo);
+        return undo;
     }
 
-    public Piece removePiece(Position position) {
-        return tiles[position.getRow()][position.getCol()].removePiece();
+    /**
+     * Joue un coup sur le plateau en remplissant une structure d'annulation réutilisable.
+     * <p>
+     * Le roque, la prise en passant et la promotion sont déduits de la position. Les droits
+     * de roque, la case de prise en passant et les compteurs de coups sont mis à jour.
+     *
+     * @param promotion type de la pièce de promotion, ou null pour laisser le pion tel quel
+     */
+    public void makeMove(Position from, Position to, PieceType promotion, UndoInfo undo) {
+        makeMove(from.index(), to.index(), promotion, undo);
+    }
+
+    /**
+     * Joue un coup encodé ({@link PackedMove}) en remplissant une structure d'annulation réutilisable.
+     */
+    public void makeMove(int move, UndoInfo undo) {
+        makeMove(PackedMove.from(move), PackedMove.to(move), PackedMove.promotion(move), undo);
     }
 
+    private void makeMove(int fromSquare, int toSquare, PieceType promotion, UndoInfo undo) {
+        Piece piece = squares[fromSquare];
+        if (piece == null) {
+            throw new IllegalArgumentException("Aucune pièce à la position "
+                    + Position.of(fromSquare));
+        }
+        Color color = piece.getColor();
+        boolean isPawn = piece.getType() == PieceType.PAWN;
+
+        undo.fromSquare = fromSquare;
+        undo.toSquare = toSquare;
+        undo.movedPiece = piece;
+        undo.capturedPiece = null;
+        undo.capturedSquare = -1;
+        undo.rookFromSquare = -1;
+        undo.rookToSquare = -1;
+        undo.castlingMask = castlingMask;
+        undo.enPassantTarget = enPassantTarget;
+        undo.halfMoveClock = halfMoveClock;
+        undo.fullMoveNumber = fullMoveNumber;
+        undo.zobristKey = zobristKey;
+
+        // Capture (le pion pris en passant n'est pas sur la case d'arrivée)
+        int capturedSquare = toSquare;
+        if (isPawn && squares[toSquare] == null && enPassantTarget != null
+                && toSquare == enPassantTarget.index()) {
+            capturedSquare = color == Color.WHITE ? toSquare - 8 : toSquare + 8;
+        }
+        if (squares[capturedSquare] != null) {
+            undo.capturedPiece = clearSquare(capturedSquare);
+            undo.capturedSquare = capturedSquare;
+        }
+
+        // Déplacement (et promotion éventuelle)
+        clearSquare(fromSquare);
+        putPiece(promotion != null ? Piece.of(promotion, color) : piece, toSquare);
+
+        // Roque : déplacement de la tour
+        if (piece.getType() == PieceType.KING && Math.abs(toSquare - fromSquare) == 2) {
+            boolean kingSide = toSquare > fromSquare;
+            int rookFrom = kingSide ? toSquare + 1 : toSquare - 2;
+            int rookTo = kingSide ? toSquare - 1 : toSquare + 1;
+            Piece rook = squares[rookFrom];
+            if (rook != null) {
+                undo.rookFromSquare = rookFrom;
+                undo.rookToSquare = rookTo;
+                clearSquare(rookFrom);
+                putPiece(rook, rookTo);
+            }
+        }
+
+        // Case de prise en passant, seulement si un pion adverse peut effectivement prendre :
+        // sinon la position (et sa clé) est la même que sans poussée double
+        int passedSquare = (fromSquare + toSquare) >>> 1;
+        if (isPawn && Math.abs(toSquare - fromSquare) == 16 && canCaptureEnPassant(passedSquare, color)) {
+            setEnPassantTarget(Position.of(passedSquare));
+        } else {
+            setEnPassantTarget(null);
+        }
+
+        // Droits de roque
+        setCastlingMask(castlingMask & CASTLING_MASK_BY_SQUARE[fromSquare] & CASTLING_MASK_BY_SQUARE[toSquare]);
+
+        // Compteurs
+        if (isPawn || undo.capturedPiece != null) {
+            halfMoveClock = 0;
+        } else {
+            halfMoveClock++;
+        }
+        if (color == Color.BLACK) {
+            fullMoveNumber++;
+        }
+    }
+
+    /**
+     * Annule le dernier coup joué avec {@link #makeMove}.
+     */
+    public void unmakeMove(UndoInfo undo) {
+        if (undo.rookFromSquare >= 0) {
+            Piece rook = clearSquare(undo.rookToSquare);
+            putPiece(rook, undo.rookFromSquare);
+        }
+
+        clearSquare(undo.toSquare);
+        putPiece(undo.movedPiece, undo.fromSquare);
+
+        if (undo.capturedPiece != null) {
+            putPiece(undo.capturedPiece, undo.capturedSquare);
+        }
+
+        castlingMask = undo.castlingMask;
+        enPassantTarget = undo.enPassantTarget;
+        halfMoveClock = undo.halfMoveClock;
+        fullMoveNumber = undo.fullMoveNumber;
+        zobristKey = undo.zobristKey;
+    }
+
+    /**
+     * Retourne un instantané de la case (la modification de la tuile n'affecte pas le plateau).
+     */
     public Tile getTile(Position position) {
-        return tiles[position.getRow()][position.getCol()];
+        return new Tile(position, getPieceAt(position));
     }
 
     /**
      * Trouve la position du roi d'une couleur donnée.
      */
     public Position findKing(Color color) {
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                Piece piece = tiles[row][col].getPiece();
-                if (piece != null && piece.getType() == PieceType.KING && piece.getColor() == color) {
-                    return new Position(row, col);
-                }
-            }
-        }
-        return null;
+        int square = kingSquares[color.ordinal()];
+        return square < 0 ? null : Position.of(square);
+    }
+
+    /**
+     * Retourne l'indice de la case du roi d'une couleur, ou -1 s'il n'y en a pas.
+     */
+    public int getKingSquare(Color color) {
+        return kingSquares[color.ordinal()];
+    }
+
+    /**
+     * Retourne la signature matérielle de la position (voir {@link MaterialKey}).
+     */
+    public long getMaterialKey() {
+        return materialKey;
+    }
+
+    /**
+     * Retourne le nombre de pièces d'une couleur, roi compris.
+     */
+    public int getPieceCount(Color color) {
+        return Long.bitCount(colorBitboards[color.ordinal()]);
     }
 
     /**
      * Vérifie si une case est attaquée par une couleur donnée.
      */
     public boolean isSquareUnderAttack(Position position, Color attackingColor) {
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                Piece piece = tiles[row][col].getPiece();
-                if (piece != null && piece.getColor() == attackingColor) {
-                    Position from = new Position(row, col);
-                    if (piece.isValidMove(from, position, this)) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        return isSquareAttacked(position.index(), attackingColor);
+    }
+
+    /**
+     * Variante par indice de case de {@link #isSquareUnderAttack(Position, Color)}.
+     */
+    public boolean isSquareUnderAttack(int square, Color attackingColor) {
+        return isSquareAttacked(square, attackingColor);
     }
 
     /**
      * Vérifie si le roi d'une couleur est en échec.
      */
     public boolean isKingInCheck(Color kingColor) {
-        Position kingPosition = findKing(kingColor);
-        return kingPosition != null && isSquareUnderAttack(kingPosition, kingColor.opposite());
+        int kingSquare = kingSquares[kingColor.ordinal()];
+        return kingSquare >= 0 && isSquareAttacked(kingSquare, kingColor.opposite());
     }
 
     /**
      * Retourne une copie du plateau.
+     * Les pièces étant immuables, leurs instances sont partagées avec l'original.
      */
     public Board copy() {
         Board copy = new Board();
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                Piece piece = this.tiles[row][col].getPiece();
-                if (piece != null) {
-                    copy.tiles[row][col].setPiece(createPiece(piece.getType(), piece.getColor()));
-                }
-            }
-        }
+        System.arraycopy(this.pieceBitboards, 0, copy.pieceBitboards, 0, pieceBitboards.length);
+        System.arraycopy(this.colorBitboards, 0, copy.colorBitboards, 0, colorBitboards.length);
+        System.arraycopy(this.squares, 0, copy.squares, 0, squares.length);
+        System.arraycopy(this.kingSquares, 0, copy.kingSquares, 0, kingSquares.length);
+        copy.occupied = this.occupied;
         copy.enPassantTarget = this.enPassantTarget;
-        copy.castlingRights.putAll(this.castlingRights);
+        copy.castlingMask = this.castlingMask;
+        copy.zobristKey = this.zobristKey;
+        copy.materialKey = this.materialKey;
         copy.halfMoveClock = this.halfMoveClock;
         copy.fullMoveNumber = this.fullMoveNumber;
         return copy;
     }
 
+    /**
+     * Retourne le bitboard des pièces d'un type et d'une couleur.
+     */
+    public long getBitboard(PieceType type, Color color) {
+        return pieceBitboards[bitboardIndex(type, color)];
+    }
+
+    /**
+     * Retourne le bitboard de toutes les pièces d'une couleur.
+     */
+    public long getOccupancy(Color color) {
+        return colorBitboards[color.ordinal()];
+    }
+
+    /**
+     * Retourne le bitboard de toutes les cases occupées.
+     */
+    public long getOccupancy() {
+        return occupied;
+    }
+
+    /**
+     * Retourne la clé de Zobrist de la position pour le joueur ayant le trait.
+     * <p>
+     * La clé est maintenue incrémentalement ; deux positions identiques (pièces, trait,
+     * droits de roque, prise en passant) ont la même clé.
+     */
+    public long getZobristKey(Color sideToMove) {
+        return sideToMove == Color.BLACK ? zobristKey ^ Zobrist.BLACK_TO_MOVE : zobristKey;
+    }
+
+    /**
+     * Vérifie si une case (index 0-63) est attaquée par une couleur donnée.
+     */
+    private boolean isSquareAttacked(int square, Color attackingColor) {
+        int offset = attackingColor.ordinal() * PIECE_TYPE_COUNT;
+
+        // Un pion attaque la case si un pion adverse placé sur celle-ci l'attaquerait
+        if ((pieceBitboards[offset + PieceType.PAWN.ordinal()]
+                & AttackTables.pawnAttacks(attackingColor.opposite(), square)) != 0L) {
+            return true;
+        }
+        if ((pieceBitboards[offset + PieceType.KNIGHT.ordinal()] & AttackTables.knightAttacks(square)) != 0L) {
+            return true;
+        }
+        if ((pieceBitboards[offset + PieceType.KING.ordinal()] & AttackTables.kingAttacks(square)) != 0L) {
+            return true;
+        }
+
+        long queens = pieceBitboards[offset + PieceType.QUEEN.ordinal()];
+        long orthogonal = pieceBitboards[offset + PieceType.ROOK.ordinal()] | queens;
+        long diagonal = pieceBitboards[offset + PieceType.BISHOP.ordinal()] | queens;
+        return (AttackTables.rookAttacks(square, occupied) & orthogonal) != 0L
+                || (AttackTables.bishopAttacks(square, occupied) & diagonal) != 0L;
+    }
+
+    /**
+     * Pose une pièce sur une case vide et met à jour les bitboards.
+     */
+    private void putPiece(Piece piece, int square) {
+        long bit = 1L << square;
+        int index = bitboardIndex(piece.getType(), piece.getColor());
+        pieceBitboards[index] |= bit;
+        colorBitboards[piece.getColor().ordinal()] |= bit;
+        occupied |= bit;
+        squares[square] = piece;
+        zobristKey ^= Zobrist.PIECE_SQUARE[index][square];
+        materialKey += MaterialKey.of(piece.getType(), piece.getColor(), square);
+        if (piece.getType() == PieceType.KING) {
+            kingSquares[piece.getColor().ordinal()] = square;
+        }
+    }
+
+    /**
+     * Retire la pièce d'une case occupée et met à jour les bitboards.
+     */
+    private Piece clearSquare(int square) {
+        Piece piece = squares[square];
+        long mask = ~(1L << square);
+        int index = bitboardIndex(piece.getType(), piece.getColor());
+        pieceBitboards[index] &= mask;
+        colorBitboards[piece.getColor().ordinal()] &= mask;
+        occupied &= mask;
+        squares[square] = null;
+        zobristKey ^= Zobrist.PIECE_SQUARE[index][square];
+        materialKey -= MaterialKey.of(piece.getType(), piece.getColor(), square);
+        if (piece.getType() == PieceType.KING) {
+            // Plusieurs rois d'une couleur ne se rencontrent que sur des plateaux de test
+            long kings = pieceBitboards[index];
+            kingSquares[piece.getColor().ordinal()] = kings == 0L ? -1 : Long.numberOfTrailingZeros(kings);
+        }
+        return piece;
+    }
+
+    private void setCastlingMask(int mask) {
+        zobristKey ^= Zobrist.CASTLING[castlingMask] ^ Zobrist.CASTLING[mask];
+        castlingMask = mask;
+    }
+
+    private static int bitboardIndex(PieceType type, Color color) {
+        return color.ordinal() * PIECE_TYPE_COUNT + type.ordinal();
+    }
+
     // Getters et setters
+    /**
+     * Vérifie si un pion adverse du camp {@code mover} attaque la case sautée par sa poussée double.
+     */
+    private boolean canCaptureEnPassant(int passedSquare, Color mover) {
+        return (AttackTables.pawnAttacks(mover, passedSquare)
+                & getBitboard(PieceType.PAWN, mover.opposite())) != 0L;
+    }
+
     public Position getEnPassantTarget() {
         return enPassantTarget;
     }
 
     public void setEnPassantTarget(Position enPassantTarget) {
+        if (this.enPassantTarget != null) {
+            zobristKey ^= Zobrist.EN_PASSANT_FILE[this.enPassantTarget.getCol()];
+        }
+        if (enPassantTarget != null) {
+            zobristKey ^= Zobrist.EN_PASSANT_FILE[enPassantTarget.getCol()];
+        }
         this.enPassantTarget = enPassantTarget;
     }
 
     public CastlingRights getCastlingRights(Color color) {
-        return castlingRights.get(color);
+        return castlingRights[color.ordinal()];
+    }
+
+    int getCastlingMask() {
+        return castlingMask;
     }
 
     public int getHalfMoveClock() {
@@ -315,36 +674,43 @@ public class Board {
     }
 
     /**
-     * Classe représentant les droits de roque.
+     * Droits de roque d'une couleur.
+     * <p>
+     * Vue sur le masque de roque du plateau : les modifications sont répercutées directement.
      */
     public static class CastlingRights {
-        private boolean kingSide;
-        private boolean queenSide;
-
-        public CastlingRights() {
-            this.kingSide = true;
-            this.queenSide = true;
+        private final Board board;
+        private final int kingSideBit;
+        private final int queenSideBit;
+
+        private CastlingRights(Board board, int kingSideBit, int queenSideBit) {
+            this.board = board;
+            this.kingSideBit = kingSideBit;
+            this.queenSideBit = queenSideBit;
         }
 
         public boolean canCastleKingSide() {
-            return kingSide;
+            return (board.castlingMask & kingSideBit) != 0;
         }
 
         public void setKingSide(boolean kingSide) {
-            this.kingSide = kingSide;
+            set(kingSideBit, kingSide);
         }
 
         public boolean canCastleQueenSide() {
-            return queenSide;
+            return (board.castlingMask & queenSideBit) != 0;
         }
 
         public void setQueenSide(boolean queenSide) {
-            this.queenSide = queenSide;
+            set(queenSideBit, queenSide);
         }
 
         public void disableAll() {
-            this.kingSide = false;
-            this.queenSide = false;
+            set(kingSideBit | queenSideBit, false);
+        }
+
+        private void set(int bits, boolean enabled) {
+            board.setCastlingMask(enabled ? board.castlingMask | bits : board.castlingMask & ~bits);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package com.chess.core.entities.game;
+
+import java.util.List;
+
+/**
+ * Position à soumettre à un moteur, accompagnée de la partie qui y mène : identifiant de la
+ * partie, position de départ et coups joués depuis (notation UCI, ex : "e2e4", "e7e8q").
+ * <p>
+ * Un moteur qui garde une session par partie peut ainsi reconnaître qu'une demande prolonge
+ * la précédente et conserver sa table de transposition. Une position sans partie
+ * ({@link #of(PositionSnapshot)}) est analysée isolément.
+ */
+public final class EnginePosition {
+    private final String gameId;
+    private final String startFen;
+    private final List<String> moves;
+    private final PositionSnapshot snapshot;
+
+    private EnginePosition(String gameId, String startFen, List<String> moves, PositionSnapshot snapshot) {
+        this.gameId = gameId;
+        this.startFen = startFen;
+        this.moves = moves;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Position courante d'une partie, avec l'historique de ses coups.
+     * Doit être appelé par le thread qui fait évoluer la partie.
+     */
+    public static EnginePosition of(GameState gameState) {
+        return new EnginePosition(gameState.getGameId(), gameState.getInitialSnapshot().toFen(),
+                List.copyOf(gameState.getMoveHistoryAlgebraic()), gameState.getCurrentSnapshot());
+    }
+
+    /**
+     * Position atteinte après les coups donnés d'une partie, par exemple pour analyser
+     * chaque position d'une partie terminée.
+     *
+     * @param moves coups joués depuis {@code startFen}, en notation UCI
+     * @param snapshot photographie de la position atteinte
+     */
+    public static EnginePosition of(String gameId, String startFen, List<String> moves, PositionSnapshot snapshot) {
+        return new EnginePosition(gameId, startFen, List.copyOf(moves), snapshot);
+    }
+
+    /**
+     * Position isolée, sans partie ni historique.
+     */
+    public static EnginePosition of(PositionSnapshot snapshot) {
+        return new EnginePosition(null, snapshot.toFen(), List.of(), snapshot);
+    }
+
+    /**
+     * Identifiant de la partie, ou null pour une position isolée.
+     */
+    public String getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Position de départ de la partie en FEN.
+     */
+    public String getStartFen() {
+        return startFen;
+    }
+
+    /**
+     * Coups joués depuis la position de départ, en notation UCI.
+     */
+    public List<String> getMoves() {
+        return moves;
+    }
+
+    /**
+     * Photographie de la position à analyser.
+     */
+    public PositionSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Position à analyser en FEN.
+     */
+    public String getFen() {
+        return snapshot.toFen();
+    }
+}
@@ -0,0 +1,49 @@
+package com.chess.core.entities.game;
+
+/**
+ * Résultat d'une évaluation du moteur : le score et la profondeur à laquelle il a été obtenu.
+ * Comme pour {@link SearchResult}, une profondeur inconnue vaut
+ * {@link SearchResult#UNKNOWN_DEPTH}.
+ */
+public final class EvaluationResult {
+    private final double score;
+    private final int depth;
+    private final boolean interrupted;
+
+    private EvaluationResult(double score, int depth, boolean interrupted) {
+        this.score = score;
+        this.depth = depth;
+        this.interrupted = interrupted;
+    }
+
+    /**
+     * @param score évaluation en centipawns
+     * @param depth profondeur atteinte, ou {@link SearchResult#UNKNOWN_DEPTH}
+     * @param interrupted évaluation arrêtée à la demande de l'appelant
+     */
+    public static EvaluationResult of(double score, int depth, boolean interrupted) {
+        return new EvaluationResult(score, depth, interrupted);
+    }
+
+    /**
+     * Évaluation en centipawns.
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Profondeur atteinte, ou {@link SearchResult#UNKNOWN_DEPTH}.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Vérifie si l'évaluation a été arrêtée à la demande de l'appelant : son score est alors
+     * provisoire.
+     */
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+}
@@ -4,29 +4,52 @@ import com.chess.core.entities.Color;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Représente l'état actuel de la partie d'échecs.
  */
 public class GameState {
+    /**
+     * Identifiant des parties qui n'en ont pas reçu. Les interfaces donnent à chaque nouvelle
+     * partie un identifiant unique : deux parties de même identifiant sont vues par le moteur
+     * comme la même session.
+     */
+    public static final String DEFAULT_GAME_ID = "current";
+
     private final Board board;
+    private String gameId = DEFAULT_GAME_ID;
     private Color activePlayer;
     private GameStatus status;
-    private final List<Move> moveHistory;
+    private final List<Ply> plies;        // demi-coups joués, avec de quoi les annuler
+    private final List<Ply> undonePlies;  // demi-coups annulés, rejouables dans l'ordre inverse
     private Move lastMove;
 
+    // Photographie de la position courante, publiée après chaque demi-coup pour les autres threads
+    private volatile PositionSnapshot snapshot;
+    // Position de départ de la partie, avant le premier coup
+    private PositionSnapshot initialSnapshot;
+
+    // Coups légaux de la position courante, publiés par le thread qui les a calculés
+    private volatile LegalTargets legalTargets;
+
     public GameState() {
         this.board = new Board();
         this.activePlayer = Color.WHITE;
         this.status = GameStatus.IN_PROGRESS;
-        this.moveHistory = new ArrayList<>();
+        this.plies = new ArrayList<>();
+        this.undonePlies = new ArrayList<>();
+        initialSnapshot = publishSnapshot();
     }
 
     public GameState(Board board, Color activePlayer) {
         this.board = board;
         this.activePlayer = activePlayer;
         this.status = GameStatus.IN_PROGRESS;
-        this.moveHistory = new ArrayList<>();
+        this.plies = new ArrayList<>();
+        this.undonePlies = new ArrayList<>();
+        initialSnapshot = publishSnapshot();
     }
 
     /**
@@ -36,7 +59,8 @@ public class GameState {
         board.setupInitialPosition();
         activePlayer = Color.WHITE;
         status = GameStatus.IN_PROGRESS;
-        moveHistory.clear();
+        clearHistory();
+        initialSnapshot = publishSnapshot();
     }
 
     /**
@@ -44,27 +68,115 @@ public class GameState {
      */
     public void initializeFromFen(String fen) {
         board.setupFromFen(fen);
-        String[] parts = fen.split(" ");
-        if (parts.length >= 2) {
-            activePlayer = Color.fromFen(parts[1].charAt(0));
+        int activeIndex = fen.indexOf(' ') + 1;
+        if (activeIndex > 0 && activeIndex < fen.length()) {
+            activePlayer = Color.fromFen(fen.charAt(activeIndex));
         }
         status = GameStatus.IN_PROGRESS;
-        moveHistory.clear();
+        clearHistory();
+        initialSnapshot = publishSnapshot();
     }
 
     /**
-     * Enregistre un mouvement dans l'historique.
+     * Enregistre un mouvement dans l'historique, sans possibilité de l'annuler.
      */
     public void recordMove(Move move) {
-        moveHistory.add(move);
+        recordMove(move, null);
+    }
+
+    /**
+     * Enregistre un mouvement déjà joué sur le plateau avec les informations permettant de
+     * l'annuler. Les coups annulés qui n'avaient pas été rejoués sont oubliés.
+     */
+    public void recordMove(Move move, UndoInfo undo) {
+        plies.add(new Ply(move, undo, status));
+        undonePlies.clear();
         lastMove = move;
     }
 
     /**
-     * Change le joueur actif.
+     * Vérifie si le dernier coup peut être annulé.
+     */
+    public boolean canUndo() {
+        return !plies.isEmpty() && plies.get(plies.size() - 1).undo != null;
+    }
+
+    public boolean canRedo() {
+        return !undonePlies.isEmpty();
+    }
+
+    /**
+     * Annule le dernier coup en temps constant : plateau, trait, statut et historique
+     * reviennent à l'état d'avant le coup.
+     *
+     * @return le coup annulé
+     */
+    public Move undoMove() {
+        if (!canUndo()) {
+            throw new IllegalStateException("Aucun coup à annuler");
+        }
+        Ply ply = plies.remove(plies.size() - 1);
+        board.unmakeMove(ply.undo);
+        ply.statusAfter = status;
+        undonePlies.add(ply);
+
+        status = ply.statusBefore;
+        lastMove = plies.isEmpty() ? null : plies.get(plies.size() - 1).move;
+        activePlayer = ply.move.getMovedPiece().getColor();
+        publishSnapshot();
+        return ply.move;
+    }
+
+    /**
+     * Rejoue le dernier coup annulé, en temps constant et sans nouvelle validation.
+     *
+     * @return le coup rejoué
+     */
+    public Move redoMove() {
+        if (!canRedo()) {
+            throw new IllegalStateException("Aucun coup à rejouer");
+        }
+        Ply ply = undonePlies.remove(undonePlies.size() - 1);
+        Move move = ply.move;
+        board.makeMove(move.getFrom(), move.getTo(), move.getPromotionPiece(), ply.undo);
+        plies.add(ply);
+
+        status = ply.statusAfter;
+        lastMove = move;
+        activePlayer = move.getMovedPiece().getColor().opposite();
+        publishSnapshot();
+        return move;
+    }
+
+    /**
+     * Retourne les clés de Zobrist des positions atteintes depuis le dernier coup irréversible
+     * (prise ou coup de pion), position courante comprise : les seules qui peuvent se répéter.
+     */
+    public long[] getRepetitionKeys() {
+        int start = plies.size();
+        while (start > 0 && plies.get(start - 1).undo != null && !plies.get(start - 1).undo.isIrreversible()) {
+            start--;
+        }
+        long[] keys = new long[plies.size() - start + 1];
+        for (int i = start; i < plies.size(); i++) {
+            keys[i - start] = plies.get(i).undo.getPositionKey();
+        }
+        keys[keys.length - 1] = board.getZobristKey(activePlayer);
+        return keys;
+    }
+
+    private void clearHistory() {
+        plies.clear();
+        undonePlies.clear();
+        lastMove = null;
+    }
+
+    /**
+     * Change le joueur actif et publie la photographie de la nouvelle position.
      */
     public void switchPlayer() {
         activePlayer = activePlayer.opposite();
+        publishSnapshot();
     }
 
     /**
@@ -85,9 +197,76 @@ public class GameState {
 
     /**
      * Retourne la notation FEN de la position actuelle.
+     * <p>
+     * La chaîne est celle de la photographie du demi-coup, calculée une seule fois ; si le
+     * plateau a été modifié directement, une nouvelle photographie est publiée.
      */
     public String toFen() {
-        return board.toFen(activePlayer);
+        return getCurrentSnapshot().toFen();
+    }
+
+    /**
+     * Retourne la dernière photographie publiée de la position.
+     * <p>
+     * Sûr depuis n'importe quel thread : la photographie est immuable et publiée par un champ
+     * volatile après chaque demi-coup. Les threads d'arrière-plan doivent la lire plutôt que
+     * le plateau, qui continue d'évoluer sur le thread de la partie.
+     */
+    public PositionSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Retourne la photographie de la position de départ, à partir de laquelle l'historique
+     * des coups a été joué. Tant qu'aucun coup n'est joué, c'est la position courante.
+     */
+    public PositionSnapshot getInitialSnapshot() {
+        return plies.isEmpty() ? getCurrentSnapshot() : initialSnapshot;
+    }
+
+    /**
+     * Retourne la photographie de la position courante, en la republiant si le plateau a été
+     * modifié depuis. Réservé au thread qui fait évoluer la partie.
+     */
+    public PositionSnapshot getCurrentSnapshot() {
+        PositionSnapshot current = snapshot;
+        if (!current.matches(board, activePlayer)) {
+            current = publishSnapshot();
+        }
+        return current;
+    }
+
+    /**
+     * Retourne les coups légaux du joueur actif. Si le précalcul n'est pas encore disponible
+     * pour cette position, ils sont calculés immédiatement.
+     */
+    public LegalTargets getLegalTargets() {
+        LegalTargets targets = legalTargets;
+        if (targets == null || !targets.matches(board, activePlayer)) {
+            targets = LegalTargets.compute(board, activePlayer);
+            legalTargets = targets;
+        }
+        return targets;
+    }
+
+    /**
+     * Lance le calcul des coups légaux de la position courante sur l'exécuteur fourni.
+     * Le calcul porte sur une copie du plateau : la partie peut continuer pendant ce temps.
+     */
+    public CompletableFuture<LegalTargets> precomputeLegalTargets(Executor executor) {
+        Board snapshot = board.copy();
+        Color sideToMove = activePlayer;
+        return CompletableFuture.supplyAsync(() -> {
+            LegalTargets targets = LegalTargets.compute(snapshot, sideToMove);
+            legalTargets = targets;
+            return targets;
+        }, executor);
+    }
+
+    private PositionSnapshot publishSnapshot() {
+        PositionSnapshot current = PositionSnapshot.of(board, activePlayer);
+        snapshot = current;
+        return current;
     }
 
     /**
@@ -95,13 +274,24 @@ public class GameState {
      */
     public List<String> getMoveHistoryAlgebraic() {
         List<String> algebraic = new ArrayList<>();
-        for (Move move : moveHistory) {
-            algebraic.add(move.toAlgebraic());
+        for (Ply ply : plies) {
+            algebraic.add(ply.move.toAlgebraic());
         }
         return algebraic;
     }
 
     // Getters
+    /**
+     * Identifiant de la partie, utilisé pour la journalisation et la sauvegarde.
+     */
+    public String getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(String gameId) {
+        this.gameId = gameId;
+    }
+
     public Board getBoard() {
         return board;
     }
@@ -115,7 +305,11 @@ public class GameState {
     }
 
     public List<Move> getMoveHistory() {
-        return new ArrayList<>(moveHistory);
+        List<Move> moves = new ArrayList<>(plies.size());
+        for (Ply ply : plies) {
+            moves.add(ply.move);
+        }
+        return moves;
     }
 
     public Move getLastMove() {
@@ -123,7 +317,24 @@ public class GameState {
     }
 
     public int getMoveCount() {
-        return moveHistory.size();
+        return plies.size();
+    }
+
+    /**
+     * Demi-coup enregistré : le coup, son annulation et les statuts de la partie avant et
+     * après (ce dernier n'est connu qu'une fois le coup annulé).
+     */
+    private static final class Ply {
+        private final Move move;
+        private final UndoInfo undo;
+        private final GameStatus statusBefore;
+        private GameStatus statusAfter;
+
+        private Ply(Move move, UndoInfo undo, GameStatus statusBefore) {
+            this.move = move;
+            this.undo = undo;
+            this.statusBefore = statusBefore;
+        }
     }
 
     /**
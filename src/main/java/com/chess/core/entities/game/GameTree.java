@@ -0,0 +1,276 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.Position;
+import com.chess.core.entities.pieces.PieceType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Arbre des coups d'une partie : ligne principale et variantes.
+ * <p>
+ * Chaque nœud porte un coup encodé ({@link PackedMove}) ; ses enfants sont les suites
+ * possibles, le premier étant la ligne principale. Deux lignes partagent leurs coups communs.
+ * Un seul plateau est tenu à jour, celui du nœud courant : passer d'un nœud à un autre annule
+ * les coups jusqu'à l'ancêtre commun puis joue ceux de la nouvelle branche, soit un coût
+ * proportionnel à la différence de profondeur et non à la longueur de la partie.
+ * La photographie de la position d'un nœud n'est calculée qu'à la première demande.
+ * Non thread-safe : les autres threads reçoivent des {@link PositionSnapshot}.
+ */
+public final class GameTree {
+    private final Node root;
+    private final Board board;
+    private Node current;
+
+    /**
+     * Crée un arbre dont la racine est la position donnée (le plateau est copié).
+     */
+    public GameTree(Board start, Color sideToMove) {
+        this.board = start.copy();
+        this.root = new Node(null, PackedMove.NONE, null, sideToMove);
+        this.current = root;
+    }
+
+    /**
+     * Construit l'arbre d'une partie, réduit à sa ligne principale, le nœud courant étant le dernier coup.
+     */
+    public static GameTree of(GameState gameState) {
+        PositionSnapshot start = gameState.getInitialSnapshot();
+        GameTree tree = new GameTree(start.toBoard(), start.getSideToMove());
+        for (Move move : gameState.getMoveHistory()) {
+            tree.addMove(PackedMove.fromMove(move));
+        }
+        return tree;
+    }
+
+    /**
+     * Joue un coup depuis le nœud courant et s'y place. Si ce coup existe déjà parmi les
+     * suites, son nœud est réutilisé ; sinon il devient une nouvelle variante (ou la ligne
+     * principale s'il n'y avait aucune suite). Le coup doit être légal.
+     *
+     * @return le nœud du coup
+     */
+    public Node addMove(int move) {
+        for (Node child : current.children) {
+            if (sameMove(child.move, move)) {
+                forward(child);
+                return child;
+            }
+        }
+        Node child = new Node(current, move, PackedMove.toMove(move, board), current.sideToMove.opposite());
+        current.children.add(child);
+        forward(child);
+        return child;
+    }
+
+    /**
+     * Joue depuis le nœud courant le coup légal allant de {@code from} à {@code to}.
+     *
+     * @param promotion type de la pièce de promotion, ou null
+     * @return le nœud du coup
+     * @throws IllegalArgumentException si le coup n'est pas légal dans la position courante
+     */
+    public Node addMove(Position from, Position to, PieceType promotion) {
+        MoveList legalMoves = new MoveList();
+        LegalMoveGenerator.generateLegalMoves(board, current.sideToMove, legalMoves);
+        for (int i = 0; i < legalMoves.size(); i++) {
+            int move = legalMoves.get(i);
+            if (PackedMove.from(move) == from.index() && PackedMove.to(move) == to.index()
+                    && PackedMove.promotion(move) == promotion) {
+                return addMove(move);
+            }
+        }
+        throw new IllegalArgumentException("Coup illégal : " + from + to);
+    }
+
+    /**
+     * Se place sur un nœud de l'arbre.
+     */
+    public void goTo(Node target) {
+        // Remonter la branche la plus profonde jusqu'à l'ancêtre commun
+        Node ancestor = target;
+        while (ancestor.depth > current.depth) {
+            ancestor = ancestor.parent;
+        }
+        while (current.depth > ancestor.depth) {
+            back();
+        }
+        while (current != ancestor) {
+            back();
+            ancestor = ancestor.parent;
+        }
+
+        // Redescendre vers la cible
+        int length = target.depth - current.depth;
+        if (length == 0) {
+            return;
+        }
+        Node[] path = new Node[length];
+        for (Node node = target; node != current; node = node.parent) {
+            path[node.depth - current.depth - 1] = node;
+        }
+        for (Node node : path) {
+            forward(node);
+        }
+    }
+
+    /**
+     * Revient au coup précédent.
+     *
+     * @return false si le nœud courant est la racine
+     */
+    public boolean back() {
+        if (current == root) {
+            return false;
+        }
+        board.unmakeMove(current.undo);
+        current = current.parent;
+        return true;
+    }
+
+    /**
+     * Avance d'un coup dans la ligne principale à partir du nœud courant.
+     *
+     * @return false s'il n'y a pas de suite
+     */
+    public boolean forward() {
+        if (current.children.isEmpty()) {
+            return false;
+        }
+        forward(current.children.get(0));
+        return true;
+    }
+
+    /**
+     * Fait d'une variante la suite principale de son parent.
+     */
+    public void promoteVariation(Node node) {
+        if (node.parent != null) {
+            List<Node> siblings = node.parent.children;
+            siblings.remove(node);
+            siblings.add(0, node);
+        }
+    }
+
+    /**
+     * Retourne la ligne principale depuis la racine (racine exclue).
+     */
+    public List<Node> getMainLine() {
+        List<Node> line = new ArrayList<>();
+        for (Node node = root; !node.children.isEmpty(); node = node.children.get(0)) {
+            line.add(node.children.get(0));
+        }
+        return line;
+    }
+
+    /**
+     * Retourne la photographie de la position du nœud courant, calculée à la première demande.
+     */
+    public PositionSnapshot getSnapshot() {
+        if (current.snapshot == null) {
+            current.snapshot = PositionSnapshot.of(board, current.sideToMove);
+        }
+        return current.snapshot;
+    }
+
+    public Node getRoot() {
+        return root;
+    }
+
+    public Node getCurrent() {
+        return current;
+    }
+
+    /**
+     * Retourne le plateau du nœud courant. Il ne doit pas être modifié directement.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    public Color getSideToMove() {
+        return current.sideToMove;
+    }
+
+    private void forward(Node child) {
+        board.makeMove(child.move, child.undo);
+        current = child;
+    }
+
+    private static boolean sameMove(int a, int b) {
+        return PackedMove.from(a) == PackedMove.from(b)
+                && PackedMove.to(a) == PackedMove.to(b)
+                && PackedMove.promotion(a) == PackedMove.promotion(b);
+    }
+
+    /**
+     * Nœud de l'arbre : le coup qui y mène et ses suites.
+     */
+    public static final class Node {
+        private final Node parent;
+        private final int move;
+        private final Move materializedMove;
+        private final Color sideToMove;
+        private final int depth;
+        private final List<Node> children = new ArrayList<>(1);
+        // Rempli quand le nœud est sur le chemin du nœud courant
+        private final UndoInfo undo = new UndoInfo();
+        private PositionSnapshot snapshot;
+
+        private Node(Node parent, int move, Move materializedMove, Color sideToMove) {
+            this.parent = parent;
+            this.move = move;
+            this.materializedMove = materializedMove;
+            this.sideToMove = sideToMove;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+        /**
+         * Coup encodé menant à ce nœud ({@link PackedMove#NONE} pour la racine).
+         */
+        public int getPackedMove() {
+            return move;
+        }
+
+        /**
+         * Coup menant à ce nœud, ou null pour la racine.
+         */
+        public Move getMove() {
+            return materializedMove;
+        }
+
+        public Node getParent() {
+            return parent;
+        }
+
+        /**
+         * Retourne les suites, la ligne principale en premier.
+         */
+        public List<Node> getChildren() {
+            return Collections.unmodifiableList(children);
+        }
+
+        /**
+         * Vérifie si le nœud est sur la ligne principale de son parent.
+         */
+        public boolean isMainLine() {
+            return parent == null || parent.children.get(0) == this;
+        }
+
+        /**
+         * Nombre de demi-coups depuis la racine.
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Camp au trait dans la position du nœud.
+         */
+        public Color getSideToMove() {
+            return sideToMove;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.Position;
+import com.chess.core.entities.pieces.Piece;
+import com.chess.core.entities.pieces.PieceType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Générateur de coups strictement légaux.
+ * <p>
+ * Les pièces donnant échec, les pièces clouées et le masque d'évasion sont calculés une seule
+ * fois par position ; chaque pièce n'émet ensuite que des coups qui ne laissent pas son roi
+ * en échec, sans jouer ni copier le plateau. Le roque et la prise en passant (y compris le
+ * clouage horizontal des deux pions) sont traités.
+ */
+public final class LegalMoveGenerator {
+    private static final long ALL_SQUARES = -1L;
+    private static final long RANK_1 = 0xFFL;
+    private static final long RANK_8 = RANK_1 << 56;
+    private static final PieceType[] PROMOTION_TYPES = {
+            PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT};
+
+    private LegalMoveGenerator() {
+    }
+
+    /**
+     * Retourne tous les coups légaux d'une couleur (une entrée par pièce de promotion).
+     */
+    public static List<Move> generateLegalMoves(Board board, Color color) {
+        MoveList moves = new MoveList();
+        generateLegalMoves(board, color, moves);
+        return moves.toMoves(board);
+    }
+
+    /**
+     * Remplit la liste fournie (vidée au préalable) avec les coups légaux encodés d'une couleur,
+     * sans allouer d'objet par coup.
+     */
+    public static void generateLegalMoves(Board board, Color color, MoveList moves) {
+        moves.clear();
+        Context context = new Context(board, color);
+        long pieces = board.getOccupancy(color);
+        while (pieces != 0L) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            addMoves(board, from, targets(board, from, context), moves);
+        }
+    }
+
+    /**
+     * Retourne les cases d'arrivée légales de la pièce située sur la case donnée.
+     */
+    public static List<Position> getLegalMoves(Board board, Position from) {
+        List<Position> positions = new ArrayList<>();
+        long targets = getLegalTargets(board, from);
+        while (targets != 0L) {
+            int square = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            positions.add(Position.of(square));
+        }
+        return positions;
+    }
+
+    /**
+     * Retourne le bitboard des cases d'arrivée légales de la pièce située sur la case donnée.
+     */
+    public static long getLegalTargets(Board board, Position from) {
+        Piece piece = board.getPieceAt(from);
+        if (piece == null) {
+            return 0L;
+        }
+        return targets(board, from.index(), new Context(board, piece.getColor()));
+    }
+
+    /**
+     * Remplit, pour chaque case de départ, le bitboard des cases d'arrivée légales d'une couleur
+     * (0 pour les cases sans pièce de cette couleur). Le contexte n'est calculé qu'une fois.
+     */
+    public static void fillLegalTargets(Board board, Color color, long[] targetsBySquare) {
+        Arrays.fill(targetsBySquare, 0L);
+        Context context = new Context(board, color);
+        long pieces = board.getOccupancy(color);
+        while (pieces != 0L) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            targetsBySquare[from] = targets(board, from, context);
+        }
+    }
+
+    /**
+     * Vérifie si le coup est légal pour la pièce qui l'effectue.
+     */
+    public static boolean isLegalMove(Board board, Position from, Position to) {
+        return (getLegalTargets(board, from) & (1L << to.index())) != 0L;
+    }
+
+    /**
+     * Vérifie si une couleur dispose d'au moins un coup légal.
+     */
+    public static boolean hasLegalMove(Board board, Color color) {
+        Context context = new Context(board, color);
+
+        // Le roi d'abord : c'est souvent lui qui a encore des cases en fin de partie
+        if (context.kingSquare >= 0 && targets(board, context.kingSquare, context) != 0L) {
+            return true;
+        }
+        long pieces = board.getOccupancy(color);
+        while (pieces != 0L) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            if (from != context.kingSquare && targets(board, from, context) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calcule les cases d'arrivée légales d'une pièce du camp décrit par le contexte.
+     */
+    private static long targets(Board board, int from, Context context) {
+        Piece piece = board.getPieceAt(from);
+        Color color = context.color;
+        long own = board.getOccupancy(color);
+        long occupied = board.getOccupancy();
+
+        if (piece.getType() == PieceType.KING) {
+            return kingTargets(board, from, context, own, occupied);
+        }
+
+        // Double échec : seul le roi peut bouger
+        if (context.checkMask == 0L) {
+            return 0L;
+        }
+
+        long pinMask = (context.pinned & (1L << from)) != 0L
+                ? AttackTables.line(context.kingSquare, from)
+                : ALL_SQUARES;
+
+        long targets = switch (piece.getType()) {
+            case QUEEN -> AttackTables.queenAttacks(from, occupied) & ~own;
+            case ROOK -> AttackTables.rookAttacks(from, occupied) & ~own;
+            case BISHOP -> AttackTables.bishopAttacks(from, occupied) & ~own;
+            case KNIGHT -> AttackTables.knightAttacks(from) & ~own;
+            case PAWN -> pawnTargets(board, from, context, occupied);
+            case KING -> 0L;
+        };
+        return targets & context.checkMask & pinMask | enPassantTarget(board, from, piece, context, pinMask);
+    }
+
+    /**
+     * Cases du roi : non attaquées une fois le roi retiré de l'occupation, plus le roque.
+     */
+    private static long kingTargets(Board board, int from, Context context, long own, long occupied) {
+        Color enemy = context.color.opposite();
+        long withoutKing = occupied & ~(1L << from);
+        long targets = 0L;
+
+        long candidates = AttackTables.kingAttacks(from) & ~own;
+        while (candidates != 0L) {
+            int to = Long.numberOfTrailingZeros(candidates);
+            candidates &= candidates - 1;
+            if (attackersTo(board, to, enemy, withoutKing) == 0L) {
+                targets |= 1L << to;
+            }
+        }
+
+        if (context.checkers == 0L) {
+            targets |= castlingTargets(board, from, context.color, occupied);
+        }
+        return targets;
+    }
+
+    /**
+     * Cases d'arrivée du roi pour le roque (droits, tour, chemin libre et non attaqué).
+     */
+    private static long castlingTargets(Board board, int from, Color color, long occupied) {
+        int homeSquare = color == Color.WHITE ? 4 : 60;
+        if (from != homeSquare) {
+            return 0L;
+        }
+        Board.CastlingRights rights = board.getCastlingRights(color);
+        long rooks = board.getBitboard(PieceType.ROOK, color);
+        long targets = 0L;
+
+        if (rights.canCastleKingSide() && (rooks & (1L << (from + 3))) != 0L
+                && (AttackTables.between(from, from + 3) & occupied) == 0L
+                && !isAttacked(board, from + 1, color.opposite(), occupied)
+                && !isAttacked(board, from + 2, color.opposite(), occupied)) {
+            targets |= 1L << (from + 2);
+        }
+        if (rights.canCastleQueenSide() && (rooks & (1L << (from - 4))) != 0L
+                && (AttackTables.between(from, from - 4) & occupied) == 0L
+                && !isAttacked(board, from - 1, color.opposite(), occupied)
+                && !isAttacked(board, from - 2, color.opposite(), occupied)) {
+            targets |= 1L << (from - 2);
+        }
+        return targets;
+    }
+
+    /**
+     * Poussées et captures d'un pion (hors prise en passant).
+     */
+    private static long pawnTargets(Board board, int from, Context context, long occupied) {
+        Color color = context.color;
+        long bit = 1L << from;
+        long empty = ~occupied;
+        long targets;
+
+        if (color == Color.WHITE) {
+            long single = (bit << 8) & empty;
+            long startRank = RANK_1 << 8;
+            targets = single | (((single & (startRank << 8)) << 8) & empty);
+        } else {
+            long single = (bit >>> 8) & empty;
+            long startRank = RANK_8 >>> 8;
+            targets = single | (((single & (startRank >>> 8)) >>> 8) & empty);
+        }
+        return targets | AttackTables.pawnAttacks(color, from) & board.getOccupancy(color.opposite());
+    }
+
+    /**
+     * Prise en passant, vérifiée en retirant les deux pions de l'occupation.
+     */
+    private static long enPassantTarget(Board board, int from, Piece piece, Context context, long pinMask) {
+        Position target = board.getEnPassantTarget();
+        if (piece.getType() != PieceType.PAWN || target == null || context.kingSquare < 0) {
+            return 0L;
+        }
+        int to = target.index();
+        if ((AttackTables.pawnAttacks(context.color, from) & (1L << to) & pinMask) == 0L) {
+            return 0L;
+        }
+        int captured = context.color == Color.WHITE ? to - 8 : to + 8;
+        Piece capturedPiece = board.getPieceAt(captured);
+        if (capturedPiece == null || capturedPiece.getType() != PieceType.PAWN
+                || capturedPiece.getColor() == context.color) {
+            return 0L;
+        }
+
+        long occupied = (board.getOccupancy() & ~(1L << from) & ~(1L << captured)) | (1L << to);
+        long attackers = attackersTo(board, context.kingSquare, context.color.opposite(), occupied)
+                & ~(1L << captured);
+        return attackers == 0L ? 1L << to : 0L;
+    }
+
+    /**
+     * Pièces d'une couleur attaquant une case, pour une occupation donnée.
+     */
+    private static long attackersTo(Board board, int square, Color attackingColor, long occupied) {
+        long queens = board.getBitboard(PieceType.QUEEN, attackingColor);
+        return (AttackTables.pawnAttacks(attackingColor.opposite(), square)
+                & board.getBitboard(PieceType.PAWN, attackingColor))
+                | (AttackTables.knightAttacks(square) & board.getBitboard(PieceType.KNIGHT, attackingColor))
+                | (AttackTables.kingAttacks(square) & board.getBitboard(PieceType.KING, attackingColor))
+                | (AttackTables.rookAttacks(square, occupied)
+                & (board.getBitboard(PieceType.ROOK, attackingColor) | queens))
+                | (AttackTables.bishopAttacks(square, occupied)
+                & (board.getBitboard(PieceType.BISHOP, attackingColor) | queens));
+    }
+
+    private static boolean isAttacked(Board board, int square, Color attackingColor, long occupied) {
+        return attackersTo(board, square, attackingColor, occupied) != 0L;
+    }
+
+    /**
+     * Transforme les cases d'arrivée d'une pièce en coups encodés (captures, roques, promotions).
+     */
+    private static void addMoves(Board board, int from, long targets, MoveList moves) {
+        PieceType type = board.getPieceAt(from).getType();
+        long occupied = board.getOccupancy();
+        while (targets != 0L) {
+            int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            boolean capture = (occupied & (1L << to)) != 0L;
+
+            if (type == PieceType.KING && Math.abs(to - from) == 2) {
+                moves.add(PackedMove.of(from, to, to > from
+                        ? Move.MoveType.CASTLING_KING_SIDE : Move.MoveType.CASTLING_QUEEN_SIDE, null, false));
+            } else if (type == PieceType.PAWN && !capture && (to & 7) != (from & 7)) {
+                moves.add(PackedMove.of(from, to, Move.MoveType.EN_PASSANT, null, true));
+            } else if (type == PieceType.PAWN && (to >>> 3 == 0 || to >>> 3 == 7)) {
+                for (PieceType promotion : PROMOTION_TYPES) {
+                    moves.add(PackedMove.of(from, to, Move.MoveType.PROMOTION, promotion, capture));
+                }
+            } else {
+                moves.add(PackedMove.of(from, to,
+                        capture ? Move.MoveType.CAPTURE : Move.MoveType.NORMAL, null, capture));
+            }
+        }
+    }
+
+    /**
+     * Informations calculées une fois par position pour le camp au trait.
+     */
+    private static final class Context {
+        private final Color color;
+        private final int kingSquare;
+        private final long checkers;
+        private final long checkMask; // cases où une pièce (hors roi) peut parer l'échec
+        private final long pinned;
+
+        private Context(Board board, Color color) {
+            this.color = color;
+            this.kingSquare = board.getKingSquare(color);
+
+            if (kingSquare < 0) {
+                // Plateau sans roi (positions de test) : aucune contrainte
+                this.checkers = 0L;
+                this.checkMask = ALL_SQUARES;
+                this.pinned = 0L;
+                return;
+            }
+
+            Color enemy = color.opposite();
+            this.checkers = attackersTo(board, kingSquare, enemy, board.getOccupancy());
+            if (checkers == 0L) {
+                this.checkMask = ALL_SQUARES;
+            } else if (Long.bitCount(checkers) == 1) {
+                int checker = Long.numberOfTrailingZeros(checkers);
+                this.checkMask = checkers | AttackTables.between(kingSquare, checker);
+            } else {
+                this.checkMask = 0L;
+            }
+
+            // Clouages : pièces glissantes adverses alignées sur le roi avec une seule pièce amie entre
+            long enemyOccupancy = board.getOccupancy(enemy);
+            long enemyQueens = board.getBitboard(PieceType.QUEEN, enemy);
+            long snipers = (AttackTables.rookAttacks(kingSquare, enemyOccupancy)
+                    & (board.getBitboard(PieceType.ROOK, enemy) | enemyQueens))
+                    | (AttackTables.bishopAttacks(kingSquare, enemyOccupancy)
+                    & (board.getBitboard(PieceType.BISHOP, enemy) | enemyQueens));
+            long own = board.getOccupancy(color);
+            long pinnedPieces = 0L;
+            while (snipers != 0L) {
+                int sniper = Long.numberOfTrailingZeros(snipers);
+                snipers &= snipers - 1;
+                long blockers = AttackTables.between(kingSquare, sniper) & board.getOccupancy();
+                if (Long.bitCount(blockers) == 1 && (blockers & own) != 0L) {
+                    pinnedPieces |= blockers;
+                }
+            }
+            this.pinned = pinnedPieces;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ensemble immuable des coups légaux d'une position : pour chaque case de départ, le bitboard
+ * des cases d'arrivée légales du camp au trait.
+ * <p>
+ * Calculé une fois par position (éventuellement hors de l'EDT), il répond ensuite en temps
+ * constant à l'interface et à la validation des coups. La clé de Zobrist de la position
+ * permet de vérifier qu'il correspond toujours au plateau.
+ */
+public final class LegalTargets {
+    private final long[] targetsBySquare;
+    private final Color color;
+    private final long positionKey;
+
+    private LegalTargets(long[] targetsBySquare, Color color, long positionKey) {
+        this.targetsBySquare = targetsBySquare;
+        this.color = color;
+        this.positionKey = positionKey;
+    }
+
+    /**
+     * Calcule les coups légaux de la couleur donnée sur le plateau.
+     */
+    public static LegalTargets compute(Board board, Color color) {
+        long[] targets = new long[64];
+        LegalMoveGenerator.fillLegalTargets(board, color, targets);
+        return new LegalTargets(targets, color, board.getZobristKey(color));
+    }
+
+    /**
+     * Vérifie que ces coups ont été calculés pour la position actuelle du plateau.
+     */
+    public boolean matches(Board board, Color sideToMove) {
+        return color == sideToMove && positionKey == board.getZobristKey(sideToMove);
+    }
+
+    /**
+     * Vérifie que ces coups ont été calculés pour la position photographiée et son camp au trait.
+     */
+    public boolean matches(PositionSnapshot position) {
+        return color == position.getSideToMove() && positionKey == position.getZobristKey();
+    }
+
+    /**
+     * Retourne le bitboard des cases d'arrivée légales depuis une case (0 si aucune).
+     */
+    public long getTargets(Position from) {
+        return targetsBySquare[from.index()];
+    }
+
+    /**
+     * Retourne les cases d'arrivée légales depuis une case.
+     */
+    public List<Position> getTargetPositions(Position from) {
+        long targets = targetsBySquare[from.index()];
+        List<Position> positions = new ArrayList<>(Long.bitCount(targets));
+        while (targets != 0L) {
+            positions.add(Position.of(Long.numberOfTrailingZeros(targets)));
+            targets &= targets - 1;
+        }
+        return positions;
+    }
+
+    public boolean isLegal(Position from, Position to) {
+        return (targetsBySquare[from.index()] & (1L << to.index())) != 0L;
+    }
+
+    public boolean hasAnyMove() {
+        for (long targets : targetsBySquare) {
+            if (targets != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+}
@@ -0,0 +1,91 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.pieces.PieceType;
+
+import java.util.Arrays;
+
+/**
+ * Signature matérielle d'une position, tenue à jour par {@link Board} à chaque pose ou retrait
+ * de pièce (captures et promotions comprises).
+ * <p>
+ * La clé est un {@code long} : 4 bits de compteur par couleur et par type (ordre de
+ * {@link PieceType}), puis 4 bits par couleur comptant les fous sur cases claires. Deux
+ * positions ont la même clé si et seulement si elles ont le même matériel et la même répartition
+ * des fous par couleur de case, ce qui permet de décider le matériel insuffisant par simple
+ * recherche dans une table.
+ */
+public final class MaterialKey {
+    private static final int BITS = 4;
+    private static final int TYPE_COUNT = PieceType.values().length;
+    private static final int LIGHT_BISHOP_SHIFT = 2 * TYPE_COUNT * BITS;
+    private static final long LIGHT_SQUARES = 0x55AA55AA55AA55AAL;
+
+    // Configurations sans mat possible, triées pour la recherche dichotomique
+    private static final long[] INSUFFICIENT_MATERIAL;
+    private static final long KINGS_ONLY;
+
+    static {
+        long kings = piece(PieceType.KING, Color.WHITE, 0) + piece(PieceType.KING, Color.BLACK, 0);
+        KINGS_ONLY = kings;
+        long[] table = new long[]{
+                kings,
+                // Roi + Cavalier contre Roi
+                kings + piece(PieceType.KNIGHT, Color.WHITE, 0),
+                kings + piece(PieceType.KNIGHT, Color.BLACK, 0),
+                // Roi + Fou contre Roi (fou sur case foncée ou claire)
+                kings + piece(PieceType.BISHOP, Color.WHITE, 0),
+                kings + piece(PieceType.BISHOP, Color.WHITE, 1),
+                kings + piece(PieceType.BISHOP, Color.BLACK, 0),
+                kings + piece(PieceType.BISHOP, Color.BLACK, 1),
+                // Roi + Fou contre Roi + Fou, fous de même couleur de case
+                kings + piece(PieceType.BISHOP, Color.WHITE, 0) + piece(PieceType.BISHOP, Color.BLACK, 0),
+                kings + piece(PieceType.BISHOP, Color.WHITE, 1) + piece(PieceType.BISHOP, Color.BLACK, 1)
+        };
+        Arrays.sort(table);
+        INSUFFICIENT_MATERIAL = table;
+    }
+
+    private MaterialKey() {
+    }
+
+    /**
+     * Contribution d'une pièce posée sur une case : à ajouter à la clé à la pose, à soustraire au retrait.
+     */
+    public static long of(PieceType type, Color color, int square) {
+        return piece(type, color, (int) ((LIGHT_SQUARES >>> square) & 1L));
+    }
+
+    /**
+     * Nombre de pièces d'un type et d'une couleur.
+     */
+    public static int count(long key, PieceType type, Color color) {
+        return (int) ((key >>> shift(type, color)) & ((1 << BITS) - 1));
+    }
+
+    /**
+     * Vérifie si le matériel ne permet à aucun camp de mater.
+     */
+    public static boolean isInsufficientMaterial(long key) {
+        return Arrays.binarySearch(INSUFFICIENT_MATERIAL, key) >= 0;
+    }
+
+    /**
+     * Vérifie s'il ne reste que les deux rois.
+     */
+    public static boolean isKingsOnly(long key) {
+        return key == KINGS_ONLY;
+    }
+
+    private static long piece(PieceType type, Color color, int lightSquare) {
+        long key = 1L << shift(type, color);
+        if (type == PieceType.BISHOP && lightSquare != 0) {
+            key += 1L << (LIGHT_BISHOP_SHIFT + color.ordinal() * BITS);
+        }
+        return key;
+    }
+
+    private static int shift(PieceType type, Color color) {
+        return (color.ordinal() * TYPE_COUNT + type.ordinal()) * BITS;
+    }
+}
@@ -16,6 +16,7 @@ public class Move {
     private final Piece capturedPiece;
     private final MoveType moveType;
     private final PieceType promotionPiece;
+    private final String san;
 
     private Move(Builder builder) {
         this.from = Objects.requireNonNull(builder.from, "Position de départ requise");
@@ -24,6 +25,7 @@ public class Move {
         this.capturedPiece = builder.capturedPiece;
         this.moveType = builder.moveType != null ? builder.moveType : MoveType.NORMAL;
         this.promotionPiece = builder.promotionPiece;
+        this.san = builder.san;
     }
 
     public Position getFrom() {
@@ -50,6 +52,13 @@ public class Move {
         return promotionPiece;
     }
 
+    /**
+     * Notation SAN du coup (ex: Nf3, exd6, O-O+), ou null si elle n'a pas été calculée.
+     */
+    public String getSan() {
+        return san;
+    }
+
     public boolean isCapture() {
         return capturedPiece != null || moveType == MoveType.EN_PASSANT;
     }
@@ -138,6 +147,7 @@ public class Move {
         private Piece capturedPiece;
         private MoveType moveType;
         private PieceType promotionPiece;
+        private String san;
 
         public Builder(Position from, Position to, Piece movedPiece) {
             this.from = from;
@@ -161,6 +171,11 @@ public class Move {
             return this;
         }
 
+        public Builder withSan(String san) {
+            this.san = san;
+            return this;
+        }
+
         public Move build() {
             return new Move(this);
         }
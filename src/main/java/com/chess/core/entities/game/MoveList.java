@@ -0,0 +1,77 @@
+package com.chess.core.entities.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Liste de coups encodés ({@link PackedMove}) adossée à un tableau d'entiers réutilisable.
+ * <p>
+ * Destinée aux boucles chaudes (perft, détection de mat, analyse) : la liste est vidée avec
+ * {@link #clear()} puis remplie à nouveau sans allocation. Non thread-safe.
+ */
+public final class MoveList {
+    /** Nombre maximal de coups légaux connu dans une position d'échecs (218), arrondi. */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private int[] moves;
+    private int size;
+
+    public MoveList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MoveList(int capacity) {
+        this.moves = new int[Math.max(capacity, 1)];
+    }
+
+    public void add(int move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+        }
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", taille: " + size);
+        }
+        return moves[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Vérifie si la liste contient un coup allant de la case de départ à la case d'arrivée données.
+     */
+    public boolean contains(int from, int to) {
+        for (int i = 0; i < size; i++) {
+            if (PackedMove.from(moves[i]) == from && PackedMove.to(moves[i]) == to) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Convertit la liste en {@link Move} pour l'API publique. Le plateau doit être dans la
+     * position où les coups ont été générés.
+     */
+    public List<Move> toMoves(Board board) {
+        List<Move> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(PackedMove.toMove(moves[i], board));
+        }
+        return result;
+    }
+}
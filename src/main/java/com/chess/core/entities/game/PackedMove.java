@@ -0,0 +1,126 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Position;
+import com.chess.core.entities.pieces.Piece;
+import com.chess.core.entities.pieces.PieceType;
+
+/**
+ * Encodage compact d'un coup dans un {@code int}, pour les boucles de génération et de recherche.
+ * <p>
+ * Disposition des bits :
+ * <ul>
+ *     <li>0-5 : case de départ (ligne * 8 + colonne)</li>
+ *     <li>6-11 : case d'arrivée</li>
+ *     <li>12-14 : type de coup (ordinal de {@link Move.MoveType})</li>
+ *     <li>15-17 : pièce de promotion (ordinal de {@link PieceType} + 1, 0 si aucune)</li>
+ *     <li>18 : capture (y compris en passant)</li>
+ * </ul>
+ * La valeur 0 (a1a1) ne correspond à aucun coup et sert de coup nul.
+ */
+public final class PackedMove {
+    public static final int NONE = 0;
+
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int TO_SHIFT = 6;
+    private static final int TYPE_SHIFT = 12;
+    private static final int TYPE_MASK = 0x7;
+    private static final int PROMOTION_SHIFT = 15;
+    private static final int PROMOTION_MASK = 0x7;
+    private static final int CAPTURE_FLAG = 1 << 18;
+
+    private static final Move.MoveType[] MOVE_TYPES = Move.MoveType.values();
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private PackedMove() {
+    }
+
+    /**
+     * Encode un coup.
+     *
+     * @param promotion type de la pièce de promotion, ou null
+     */
+    public static int of(int from, int to, Move.MoveType type, PieceType promotion, boolean capture) {
+        return from
+                | to << TO_SHIFT
+                | type.ordinal() << TYPE_SHIFT
+                | (promotion == null ? 0 : promotion.ordinal() + 1) << PROMOTION_SHIFT
+                | (capture ? CAPTURE_FLAG : 0);
+    }
+
+    public static int from(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int to(int move) {
+        return (move >>> TO_SHIFT) & SQUARE_MASK;
+    }
+
+    public static Move.MoveType type(int move) {
+        return MOVE_TYPES[(move >>> TYPE_SHIFT) & TYPE_MASK];
+    }
+
+    /**
+     * Retourne le type de la pièce de promotion, ou null.
+     */
+    public static PieceType promotion(int move) {
+        int code = (move >>> PROMOTION_SHIFT) & PROMOTION_MASK;
+        return code == 0 ? null : PIECE_TYPES[code - 1];
+    }
+
+    public static boolean isCapture(int move) {
+        return (move & CAPTURE_FLAG) != 0;
+    }
+
+    /**
+     * Encode un {@link Move} existant.
+     */
+    public static int fromMove(Move move) {
+        return of(move.getFrom().index(), move.getTo().index(), move.getMoveType(),
+                move.getPromotionPiece(), move.isCapture());
+    }
+
+    /**
+     * Reconstruit le {@link Move} correspondant, les pièces étant lues sur le plateau
+     * (qui doit être dans la position où le coup a été généré).
+     */
+    public static Move toMove(int move, Board board) {
+        int from = from(move);
+        int to = to(move);
+        Position fromPosition = Position.of(from);
+        Position toPosition = Position.of(to);
+        Piece piece = board.getPieceAt(fromPosition);
+        if (piece == null) {
+            throw new IllegalArgumentException("Aucune pièce à la position " + fromPosition);
+        }
+
+        Move.Builder builder = new Move.Builder(fromPosition, toPosition, piece).withMoveType(type(move));
+        if (type(move) == Move.MoveType.EN_PASSANT) {
+            builder.withCapturedPiece(board.getPieceAt(to + (from < to ? -8 : 8)));
+        } else {
+            builder.withCapturedPiece(board.getPieceAt(toPosition));
+        }
+        PieceType promotion = promotion(move);
+        if (promotion != null) {
+            builder.withPromotion(promotion);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Notation algébrique du coup (ex: e2e4, e7e8q).
+     */
+    public static String toAlgebraic(int move) {
+        StringBuilder notation = new StringBuilder(5);
+        appendSquare(notation, from(move));
+        appendSquare(notation, to(move));
+        PieceType promotion = promotion(move);
+        if (promotion != null) {
+            notation.append(promotion.getBlackSymbol());
+        }
+        return notation.toString();
+    }
+
+    private static void appendSquare(StringBuilder notation, int square) {
+        notation.append((char) ('a' + (square & 7))).append((char) ('1' + (square >>> 3)));
+    }
+}
@@ -0,0 +1,133 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.Position;
+import com.chess.core.entities.pieces.Piece;
+import com.chess.core.entities.pieces.PieceType;
+
+/**
+ * Photographie immuable d'une position : pièces, trait, droits de roque, prise en passant,
+ * compteurs et clé de Zobrist.
+ * <p>
+ * {@link GameState} en publie une nouvelle après chaque demi-coup. Les threads de l'IA, de
+ * l'analyse ou du rendu la lisent sans verrou ni copie du plateau : rien ne la modifie
+ * une fois construite.
+ */
+public final class PositionSnapshot {
+    private static final Piece[] PIECES = new Piece[1 + Color.values().length * PieceType.values().length];
+
+    static {
+        for (Color color : Color.values()) {
+            for (PieceType type : PieceType.values()) {
+                PIECES[code(type, color)] = Piece.of(type, color);
+            }
+        }
+    }
+
+    // Une case par octet : 0 si vide, sinon 1 + couleur * 6 + type
+    private final byte[] pieces;
+    private final Color sideToMove;
+    private final int castlingMask;
+    private final int enPassantSquare;
+    private final int halfMoveClock;
+    private final int fullMoveNumber;
+    private final long zobristKey;
+    private final String fen;
+
+    private PositionSnapshot(byte[] pieces, Color sideToMove, int castlingMask, int enPassantSquare,
+                             int halfMoveClock, int fullMoveNumber, long zobristKey, String fen) {
+        this.pieces = pieces;
+        this.sideToMove = sideToMove;
+        this.castlingMask = castlingMask;
+        this.enPassantSquare = enPassantSquare;
+        this.halfMoveClock = halfMoveClock;
+        this.fullMoveNumber = fullMoveNumber;
+        this.zobristKey = zobristKey;
+        this.fen = fen;
+    }
+
+    /**
+     * Photographie le plateau. Doit être appelé par le thread qui modifie le plateau.
+     */
+    public static PositionSnapshot of(Board board, Color sideToMove) {
+        byte[] pieces = new byte[64];
+        long occupied = board.getOccupancy();
+        while (occupied != 0L) {
+            int square = Long.numberOfTrailingZeros(occupied);
+            Piece piece = board.getPieceAt(square);
+            pieces[square] = (byte) code(piece.getType(), piece.getColor());
+            occupied &= occupied - 1;
+        }
+        Position enPassant = board.getEnPassantTarget();
+        return new PositionSnapshot(pieces, sideToMove, board.getCastlingMask(),
+                enPassant == null ? -1 : enPassant.index(),
+                board.getHalfMoveClock(), board.getFullMoveNumber(),
+                board.getZobristKey(sideToMove), board.toFen(sideToMove));
+    }
+
+    /**
+     * Reconstruit un plateau indépendant dans cette position, pour un calcul qui doit jouer des coups.
+     */
+    public Board toBoard() {
+        Board board = new Board();
+        board.setupFromFen(fen);
+        return board;
+    }
+
+    /**
+     * Vérifie que la photographie correspond toujours à la position du plateau.
+     */
+    public boolean matches(Board board, Color sideToMove) {
+        return this.sideToMove == sideToMove
+                && zobristKey == board.getZobristKey(sideToMove)
+                && halfMoveClock == board.getHalfMoveClock()
+                && fullMoveNumber == board.getFullMoveNumber();
+    }
+
+    public Piece getPieceAt(Position position) {
+        return PIECES[pieces[position.index()]];
+    }
+
+    public Piece getPieceAt(int square) {
+        return PIECES[pieces[square]];
+    }
+
+    public Color getSideToMove() {
+        return sideToMove;
+    }
+
+    public boolean canCastleKingSide(Color color) {
+        return (castlingMask & (color == Color.WHITE ? Board.WHITE_KING_SIDE : Board.BLACK_KING_SIDE)) != 0;
+    }
+
+    public boolean canCastleQueenSide(Color color) {
+        return (castlingMask & (color == Color.WHITE ? Board.WHITE_QUEEN_SIDE : Board.BLACK_QUEEN_SIDE)) != 0;
+    }
+
+    /**
+     * Retourne la case de prise en passant, ou null.
+     */
+    public Position getEnPassantTarget() {
+        return enPassantSquare < 0 ? null : Position.of(enPassantSquare);
+    }
+
+    public int getHalfMoveClock() {
+        return halfMoveClock;
+    }
+
+    public int getFullMoveNumber() {
+        return fullMoveNumber;
+    }
+
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    public String toFen() {
+        return fen;
+    }
+
+    private static int code(PieceType type, Color color) {
+        return 1 + color.ordinal() * PieceType.values().length + type.ordinal();
+    }
+}
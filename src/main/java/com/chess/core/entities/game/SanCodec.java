@@ -0,0 +1,248 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.pieces.Piece;
+import com.chess.core.entities.pieces.PieceType;
+
+/**
+ * Lecture et écriture des coups en notation algébrique standard (SAN) : {@code e4}, {@code Nbd7},
+ * {@code exd6}, {@code R1e2}, {@code O-O-O}, {@code e8=Q+}, {@code Qh7#}.
+ * <p>
+ * La désambiguïsation se fait à partir de la liste des coups légaux de la position, générée
+ * une seule fois et réutilisable pour tous les coups de cette position (import ou export PGN
+ * en masse). Seul le suffixe d'échec ou de mat demande de jouer le coup.
+ */
+public final class SanCodec {
+    private static final String KING_SIDE_CASTLING = "O-O";
+    private static final String QUEEN_SIDE_CASTLING = "O-O-O";
+
+    private SanCodec() {
+    }
+
+    /**
+     * Écrit un coup légal en SAN.
+     */
+    public static String toSan(Board board, Color side, int move) {
+        MoveList legalMoves = new MoveList();
+        LegalMoveGenerator.generateLegalMoves(board, side, legalMoves);
+        return toSan(board, side, move, legalMoves);
+    }
+
+    /**
+     * Écrit un coup légal en SAN à partir des coups légaux déjà générés pour cette position.
+     */
+    public static String toSan(Board board, Color side, int move, MoveList legalMoves) {
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+        Piece piece = board.getPieceAt(from);
+        if (piece == null) {
+            throw new IllegalArgumentException("Aucune pièce à la position " + PackedMove.toAlgebraic(move));
+        }
+        PieceType type = piece.getType();
+        StringBuilder san = new StringBuilder(8);
+
+        if (type == PieceType.KING && Math.abs(to - from) == 2) {
+            san.append(to > from ? KING_SIDE_CASTLING : QUEEN_SIDE_CASTLING);
+        } else if (type == PieceType.PAWN) {
+            // Un pion qui change de colonne capture, y compris en passant
+            if ((from & 7) != (to & 7)) {
+                appendFile(san, from).append('x');
+            }
+            appendSquare(san, to);
+            PieceType promotion = PackedMove.promotion(move);
+            if (promotion != null) {
+                san.append('=').append(promotion.getWhiteSymbol());
+            }
+        } else {
+            san.append(type.getWhiteSymbol());
+            appendDisambiguation(san, board, type, from, to, legalMoves);
+            if (board.getPieceAt(to) != null) {
+                san.append('x');
+            }
+            appendSquare(san, to);
+        }
+
+        appendCheckSuffix(san, board, side, move);
+        return san.toString();
+    }
+
+    /**
+     * Lit un coup SAN et retourne le coup légal encodé ({@link PackedMove}) correspondant.
+     *
+     * @throws IllegalArgumentException si la notation est invalide, ambiguë ou désigne un coup illégal
+     */
+    public static int fromSan(Board board, Color side, CharSequence san) {
+        MoveList legalMoves = new MoveList();
+        LegalMoveGenerator.generateLegalMoves(board, side, legalMoves);
+        return fromSan(board, san, legalMoves);
+    }
+
+    /**
+     * Lit un coup SAN parmi les coups légaux déjà générés pour la position du plateau.
+     *
+     * @throws IllegalArgumentException si la notation est invalide, ambiguë ou désigne un coup illégal
+     */
+    public static int fromSan(Board board, CharSequence san, MoveList legalMoves) {
+        // Suffixes d'échec et annotations ignorés
+        int end = san.length();
+        while (end > 0 && isSuffix(san.charAt(end - 1))) {
+            end--;
+        }
+
+        int castlingLength = castlingLength(san, end);
+        if (castlingLength > 0) {
+            Move.MoveType castling = castlingLength == QUEEN_SIDE_CASTLING.length()
+                    ? Move.MoveType.CASTLING_QUEEN_SIDE : Move.MoveType.CASTLING_KING_SIDE;
+            for (int i = 0; i < legalMoves.size(); i++) {
+                if (PackedMove.type(legalMoves.get(i)) == castling) {
+                    return legalMoves.get(i);
+                }
+            }
+            throw new IllegalArgumentException("Roque illégal : " + san);
+        }
+
+        // Pièce déplacée (absente pour un pion)
+        int start = 0;
+        PieceType type = PieceType.PAWN;
+        if (end > 0 && isPieceLetter(san.charAt(0))) {
+            type = PieceType.fromFen(san.charAt(0));
+            start = 1;
+        }
+
+        // Promotion : e8=Q, ou e8Q
+        PieceType promotion = null;
+        if (type == PieceType.PAWN && end > start) {
+            char last = san.charAt(end - 1);
+            boolean withEquals = end - 2 >= start && san.charAt(end - 2) == '=';
+            if (isPromotionLetter(last) && (withEquals || Character.isUpperCase(last))) {
+                promotion = PieceType.fromFen(Character.toUpperCase(last));
+                end -= withEquals ? 2 : 1;
+            }
+        }
+
+        // Case d'arrivée
+        if (end - start < 2) {
+            throw new IllegalArgumentException("Notation SAN invalide : " + san);
+        }
+        int toFile = san.charAt(end - 2) - 'a';
+        int toRank = san.charAt(end - 1) - '1';
+        if (toFile < 0 || toFile > 7 || toRank < 0 || toRank > 7) {
+            throw new IllegalArgumentException("Notation SAN invalide : " + san);
+        }
+        int to = toRank * 8 + toFile;
+
+        // Désambiguïsation par colonne et/ou rangée de départ
+        int fromFile = -1;
+        int fromRank = -1;
+        for (int i = start; i < end - 2; i++) {
+            char c = san.charAt(i);
+            if (c >= 'a' && c <= 'h') {
+                fromFile = c - 'a';
+            } else if (c >= '1' && c <= '8') {
+                fromRank = c - '1';
+            } else if (c != 'x' && c != ':' && c != '-') {
+                throw new IllegalArgumentException("Notation SAN invalide : " + san);
+            }
+        }
+
+        int found = PackedMove.NONE;
+        for (int i = 0; i < legalMoves.size(); i++) {
+            int move = legalMoves.get(i);
+            int from = PackedMove.from(move);
+            if (PackedMove.to(move) != to || PackedMove.promotion(move) != promotion
+                    || board.getPieceAt(from).getType() != type
+                    || (fromFile >= 0 && (from & 7) != fromFile)
+                    || (fromRank >= 0 && (from >>> 3) != fromRank)) {
+                continue;
+            }
+            if (found != PackedMove.NONE) {
+                throw new IllegalArgumentException("Notation SAN ambiguë : " + san);
+            }
+            found = move;
+        }
+        if (found == PackedMove.NONE) {
+            throw new IllegalArgumentException("Coup illégal : " + san);
+        }
+        return found;
+    }
+
+    /**
+     * Ajoute la colonne et/ou la rangée de départ quand une autre pièce du même type peut
+     * atteindre la même case : la colonne si elle suffit, sinon la rangée, sinon les deux.
+     */
+    private static void appendDisambiguation(StringBuilder san, Board board, PieceType type,
+                                             int from, int to, MoveList legalMoves) {
+        boolean ambiguous = false;
+        boolean sameFile = false;
+        boolean sameRank = false;
+        for (int i = 0; i < legalMoves.size(); i++) {
+            int other = PackedMove.from(legalMoves.get(i));
+            if (other == from || PackedMove.to(legalMoves.get(i)) != to
+                    || board.getPieceAt(other).getType() != type) {
+                continue;
+            }
+            ambiguous = true;
+            sameFile |= (other & 7) == (from & 7);
+            sameRank |= (other >>> 3) == (from >>> 3);
+        }
+        if (!ambiguous) {
+            return;
+        }
+        if (!sameFile) {
+            appendFile(san, from);
+        } else if (!sameRank) {
+            san.append((char) ('1' + (from >>> 3)));
+        } else {
+            appendSquare(san, from);
+        }
+    }
+
+    private static void appendCheckSuffix(StringBuilder san, Board board, Color side, int move) {
+        UndoInfo undo = new UndoInfo();
+        board.makeMove(move, undo);
+        Color opponent = side.opposite();
+        if (board.isKingInCheck(opponent)) {
+            san.append(LegalMoveGenerator.hasLegalMove(board, opponent) ? '+' : '#');
+        }
+        board.unmakeMove(undo);
+    }
+
+    /**
+     * Retourne la longueur de la notation de roque (3 ou 5), ou 0 si ce n'en est pas une.
+     * Le zéro est accepté à la place de la lettre O.
+     */
+    private static int castlingLength(CharSequence san, int end) {
+        if (end != KING_SIDE_CASTLING.length() && end != QUEEN_SIDE_CASTLING.length()) {
+            return 0;
+        }
+        for (int i = 0; i < end; i++) {
+            char c = san.charAt(i);
+            boolean valid = i % 2 == 0 ? (c == 'O' || c == '0') : c == '-';
+            if (!valid) {
+                return 0;
+            }
+        }
+        return end;
+    }
+
+    private static boolean isSuffix(char c) {
+        return c == '+' || c == '#' || c == '!' || c == '?';
+    }
+
+    private static boolean isPieceLetter(char c) {
+        return c == 'K' || c == 'Q' || c == 'R' || c == 'B' || c == 'N';
+    }
+
+    private static boolean isPromotionLetter(char c) {
+        char upper = Character.toUpperCase(c);
+        return upper == 'Q' || upper == 'R' || upper == 'B' || upper == 'N';
+    }
+
+    private static StringBuilder appendFile(StringBuilder san, int square) {
+        return san.append((char) ('a' + (square & 7)));
+    }
+
+    private static void appendSquare(StringBuilder san, int square) {
+        appendFile(san, square).append((char) ('1' + (square >>> 3)));
+    }
+}
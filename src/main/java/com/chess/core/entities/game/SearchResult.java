@@ -0,0 +1,54 @@
+package com.chess.core.entities.game;
+
+/**
+ * Résultat d'une recherche du moteur : le meilleur coup et la profondeur réellement atteinte,
+ * qui peut être inférieure à celle demandée quand la recherche s'arrête sur le temps, la
+ * stabilité ou une limite de nœuds.
+ */
+public final class SearchResult {
+    /**
+     * Profondeur d'un moteur qui ne la communique pas.
+     */
+    public static final int UNKNOWN_DEPTH = 0;
+
+    private final String bestMove;
+    private final int depth;
+    private final boolean interrupted;
+
+    private SearchResult(String bestMove, int depth, boolean interrupted) {
+        this.bestMove = bestMove;
+        this.depth = depth;
+        this.interrupted = interrupted;
+    }
+
+    /**
+     * @param bestMove coup en notation UCI, ou null si le moteur n'en a pas trouvé
+     * @param depth profondeur atteinte, ou {@link #UNKNOWN_DEPTH}
+     * @param interrupted recherche arrêtée à la demande de l'appelant
+     */
+    public static SearchResult of(String bestMove, int depth, boolean interrupted) {
+        return new SearchResult(bestMove, depth, interrupted);
+    }
+
+    /**
+     * Coup en notation UCI, ou null.
+     */
+    public String getBestMove() {
+        return bestMove;
+    }
+
+    /**
+     * Profondeur atteinte, ou {@link #UNKNOWN_DEPTH}.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Vérifie si la recherche a été arrêtée à la demande de l'appelant (annulation) plutôt
+     * que par ses propres limites.
+     */
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+}
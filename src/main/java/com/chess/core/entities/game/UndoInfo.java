@@ -0,0 +1,51 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.Position;
+import com.chess.core.entities.pieces.Piece;
+import com.chess.core.entities.pieces.PieceType;
+
+/**
+ * Informations nécessaires pour annuler un coup joué avec {@link Board#makeMove}.
+ * <p>
+ * Une même instance peut être réutilisée d'un coup à l'autre afin d'éviter toute allocation
+ * lors des vérifications de légalité.
+ */
+public final class UndoInfo {
+    int fromSquare;
+    int toSquare;
+    Piece movedPiece;
+    Piece capturedPiece;
+    int capturedSquare;
+    int rookFromSquare;
+    int rookToSquare;
+    int castlingMask;
+    Position enPassantTarget;
+    int halfMoveClock;
+    int fullMoveNumber;
+    long zobristKey;
+
+    public UndoInfo() {
+    }
+
+    /**
+     * Pièce capturée par le coup (y compris en passant), ou null.
+     */
+    public Piece getCapturedPiece() {
+        return capturedPiece;
+    }
+
+    /**
+     * Clé de Zobrist de la position avant le coup, trait compris.
+     */
+    long getPositionKey() {
+        return movedPiece.getColor() == Color.BLACK ? zobristKey ^ Zobrist.BLACK_TO_MOVE : zobristKey;
+    }
+
+    /**
+     * Vérifie si le coup empêche toute répétition des positions qui le précèdent.
+     */
+    boolean isIrreversible() {
+        return capturedPiece != null || movedPiece.getType() == PieceType.PAWN;
+    }
+}
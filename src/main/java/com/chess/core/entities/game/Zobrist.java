@@ -0,0 +1,46 @@
+package com.chess.core.entities.game;
+
+/**
+ * Clés aléatoires pour le hachage de Zobrist des positions.
+ * <p>
+ * La clé d'une position est le XOR des clés de chaque pièce sur sa case, des droits de roque,
+ * de la colonne de prise en passant et du trait. Les valeurs sont générées avec une graine fixe
+ * afin que les clés soient stables d'une exécution à l'autre.
+ */
+final class Zobrist {
+    static final long[][] PIECE_SQUARE = new long[12][64]; // index = couleur * 6 + type
+    static final long[] CASTLING = new long[16];
+    static final long[] EN_PASSANT_FILE = new long[8];
+    static final long BLACK_TO_MOVE;
+
+    private static long seed = 0x2545F4914F6CDD1DL;
+
+    static {
+        for (long[] squares : PIECE_SQUARE) {
+            for (int square = 0; square < 64; square++) {
+                squares[square] = nextRandom();
+            }
+        }
+        // Aucun droit de roque : clé nulle
+        for (int mask = 1; mask < CASTLING.length; mask++) {
+            CASTLING[mask] = nextRandom();
+        }
+        for (int file = 0; file < EN_PASSANT_FILE.length; file++) {
+            EN_PASSANT_FILE[file] = nextRandom();
+        }
+        BLACK_TO_MOVE = nextRandom();
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Générateur xorshift64* (déterministe).
+     */
+    private static long nextRandom() {
+        seed ^= seed >>> 12;
+        seed ^= seed << 25;
+        seed ^= seed >>> 27;
+        return seed * 0x2545F4914F6CDD1DL;
+    }
+}
@@ -2,9 +2,9 @@ package com.chess.core.entities.pieces;
 
 import com.chess.core.entities.Color;
 import com.chess.core.entities.Position;
+import com.chess.core.entities.game.AttackTables;
 import com.chess.core.entities.game.Board;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -12,59 +12,25 @@ import java.util.List;
  */
 public class Bishop extends Piece {
 
-    public Bishop(Color color) {
+    Bishop(Color color) {
         super(color, PieceType.BISHOP);
     }
 
     @Override
     public List<Position> getLegalMoves(Position from, Board board) {
-        List<Position> moves = new ArrayList<>();
-
-        // Directions diagonales: haut-droite, haut-gauche, bas-droite, bas-gauche
-        int[][] directions = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
-
-        for (int[] dir : directions) {
-            int row = from.getRow();
-            int col = from.getCol();
-
-            while (true) {
-                row += dir[0];
-                col += dir[1];
-
-                if (row < 0 || row > 7 || col < 0 || col > 7) {
-                    break;
-                }
-
-                Position target = new Position(row, col);
-                Piece targetPiece = board.getPieceAt(target);
-
-                if (targetPiece == null) {
-                    moves.add(target);
-                } else {
-                    if (targetPiece.getColor() != this.color) {
-                        moves.add(target);
-                    }
-                    break;
-                }
-            }
-        }
-
-        return moves;
+        return toPositions(targets(from, board));
     }
 
     @Override
     public boolean isValidMove(Position from, Position to, Board board) {
-        // Le fou se déplace en diagonale
-        if (!from.isDiagonal(to)) {
-            return false;
-        }
-
-        // Vérifie que le chemin est libre
-        if (!isPathClear(from, to, board)) {
-            return false;
-        }
+        // Le fou se déplace en diagonale, sans traverser de pièce
+        return (targets(from, board) & bitOf(to)) != 0L;
+    }
 
-        // Vérifie la case de destination
-        return isValidTarget(to, board);
+    /**
+     * Cases atteignables en diagonale, jusqu'à la première pièce rencontrée (capturable si ennemie).
+     */
+    private long targets(Position from, Board board) {
+        return withoutFriendlyPieces(AttackTables.bishopAttacks(from.index(), board.getOccupancy()), board);
     }
 }
\ No newline at end of file
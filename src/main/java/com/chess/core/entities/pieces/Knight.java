@@ -2,9 +2,9 @@ package com.chess.core.entities.pieces;
 
 import com.chess.core.entities.Color;
 import com.chess.core.entities.Position;
+import com.chess.core.entities.game.AttackTables;
 import com.chess.core.entities.game.Board;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -12,48 +12,25 @@ import java.util.List;
  */
 public class Knight extends Piece {
 
-    public Knight(Color color) {
+    Knight(Color color) {
         super(color, PieceType.KNIGHT);
     }
 
     @Override
     public List<Position> getLegalMoves(Position from, Board board) {
-        List<Position> moves = new ArrayList<>();
-
-        // Tous les mouvements en L possibles du cavalier
-        int[][] knightMoves = {
-                {2, 1}, {2, -1}, {-2, 1}, {-2, -1},
-                {1, 2}, {1, -2}, {-1, 2}, {-1, -2}
-        };
-
-        for (int[] move : knightMoves) {
-            int newRow = from.getRow() + move[0];
-            int newCol = from.getCol() + move[1];
-
-            if (newRow >= 0 && newRow <= 7 && newCol >= 0 && newCol <= 7) {
-                Position target = new Position(newRow, newCol);
-                if (isValidTarget(target, board)) {
-                    moves.add(target);
-                }
-            }
-        }
-
-        return moves;
+        return toPositions(targets(from, board));
     }
 
     @Override
     public boolean isValidMove(Position from, Position to, Board board) {
-        int rowDiff = Math.abs(to.getRow() - from.getRow());
-        int colDiff = Math.abs(to.getCol() - from.getCol());
-
-        // Mouvement en L: (2,1) ou (1,2)
-        boolean isLShape = (rowDiff == 2 && colDiff == 1) || (rowDiff == 1 && colDiff == 2);
-
-        if (!isLShape) {
-            return false;
-        }
+        // Mouvement en L: (2,1) ou (1,2), vers une case libre ou ennemie
+        return (targets(from, board) & bitOf(to)) != 0L;
+    }
 
-        // Vérifie la case de destination
-        return isValidTarget(to, board);
+    /**
+     * Cases atteignables en L, libres ou occupées par une pièce ennemie.
+     */
+    private long targets(Position from, Board board) {
+        return withoutFriendlyPieces(AttackTables.knightAttacks(from.index()), board);
     }
 }
\ No newline at end of file
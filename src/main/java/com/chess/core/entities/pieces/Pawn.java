@@ -2,9 +2,9 @@ package com.chess.core.entities.pieces;
 
 import com.chess.core.entities.Color;
 import com.chess.core.entities.Position;
+import com.chess.core.entities.game.AttackTables;
 import com.chess.core.entities.game.Board;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -12,68 +12,18 @@ import java.util.List;
  */
 public class Pawn extends Piece {
 
-    public Pawn(Color color) {
+    Pawn(Color color) {
         super(color, PieceType.PAWN);
     }
 
     @Override
     public List<Position> getLegalMoves(Position from, Board board) {
-        List<Position> moves = new ArrayList<>();
-        int direction = color == Color.WHITE ? 1 : -1;
-
-        // Avance d'une case
-        int oneForwardRow = from.getRow() + direction;
-        int oneForwardCol = from.getCol();
-        if (isValidCoordinate(oneForwardRow, oneForwardCol)) {
-            Position oneForward = new Position(oneForwardRow, oneForwardCol);
-            if (board.getPieceAt(oneForward) == null) {
-                moves.add(oneForward);
-
-                // Avance de deux cases (premier mouvement)
-                if (!hasMoved) {
-                    int startRow = color == Color.WHITE ? 1 : 6;
-                    if (from.getRow() == startRow) {
-                        int twoForwardRow = from.getRow() + 2 * direction;
-                        int twoForwardCol = from.getCol();
-                        if (isValidCoordinate(twoForwardRow, twoForwardCol)) {
-                            Position twoForward = new Position(twoForwardRow, twoForwardCol);
-                            if (board.getPieceAt(twoForward) == null) {
-                                moves.add(twoForward);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        // Captures diagonales
-        int[] captureOffsets = {-1, 1};
-        for (int offset : captureOffsets) {
-            int captureRow = from.getRow() + direction;
-            int captureCol = from.getCol() + offset;
-            if (isValidCoordinate(captureRow, captureCol)) {
-                Position capture = new Position(captureRow, captureCol);
-                if (isEnemyPiece(capture, board)) {
-                    moves.add(capture);
-                }
-            }
-        }
-
-        // Prise en passant
-        if (board.getEnPassantTarget() != null) {
-            Position enPassant = board.getEnPassantTarget();
-            if (Math.abs(from.getCol() - enPassant.getCol()) == 1 &&
-                    from.getRow() + direction == enPassant.getRow()) {
-                moves.add(enPassant);
-            }
-        }
-
-        return moves;
+        return toPositions(targets(from, board));
     }
 
     @Override
     public boolean isValidMove(Position from, Position to, Board board) {
-        return getLegalMoves(from, board).contains(to);
+        return (targets(from, board) & bitOf(to)) != 0L;
     }
 
     /**
@@ -85,9 +35,32 @@ public class Pawn extends Piece {
     }
 
     /**
-     * Vérifie si des coordonnées sont valides avant de créer une Position.
+     * Cases atteignables par le pion : avances, captures diagonales et prise en passant.
      */
-    private boolean isValidCoordinate(int row, int col) {
-        return row >= 0 && row <= 7 && col >= 0 && col <= 7;
+    private long targets(Position from, Board board) {
+        long empty = ~board.getOccupancy();
+        long origin = bitOf(from);
+
+        // Avance d'une case
+        long oneForward = (color == Color.WHITE ? origin << 8 : origin >>> 8) & empty;
+        long targets = oneForward;
+
+        // Avance de deux cases (premier mouvement : le pion est encore sur sa rangée de départ)
+        int startRow = color == Color.WHITE ? 1 : 6;
+        if (oneForward != 0L && from.getRow() == startRow) {
+            targets |= (color == Color.WHITE ? oneForward << 8 : oneForward >>> 8) & empty;
+        }
+
+        // Captures diagonales
+        long attacks = AttackTables.pawnAttacks(color, from.index());
+        targets |= attacks & board.getOccupancy(color.opposite());
+
+        // Prise en passant
+        Position enPassant = board.getEnPassantTarget();
+        if (enPassant != null) {
+            targets |= attacks & bitOf(enPassant);
+        }
+
+        return targets;
     }
-}
\ No newline at end of file
+}
@@ -2,23 +2,56 @@ package com.chess.core.entities.pieces;
 
 import com.chess.core.entities.Color;
 import com.chess.core.entities.Position;
+import com.chess.core.entities.game.AttackTables;
 import com.chess.core.entities.game.Board;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Classe abstraite représentant une pièce d'échecs.
+ * <p>
+ * Les pièces sont immuables et sans état de partie : il n'existe qu'une instance par couleur
+ * et par type, obtenue par {@link #of(PieceType, Color)}, partageable entre plateaux et threads.
+ * Les règles qui dépendent de l'historique (roque, double pas du pion) sont déduites du plateau.
  */
 public abstract class Piece {
+    private static final Piece[] INSTANCES = new Piece[Color.values().length * PieceType.values().length];
+
+    static {
+        for (Color color : Color.values()) {
+            for (PieceType type : PieceType.values()) {
+                INSTANCES[index(type, color)] = switch (type) {
+                    case KING -> new King(color);
+                    case QUEEN -> new Queen(color);
+                    case ROOK -> new Rook(color);
+                    case BISHOP -> new Bishop(color);
+                    case KNIGHT -> new Knight(color);
+                    case PAWN -> new Pawn(color);
+                };
+            }
+        }
+    }
+
     protected final Color color;
     protected final PieceType type;
-    protected boolean hasMoved;
 
-    protected Piece(Color color, PieceType type) {
+    Piece(Color color, PieceType type) {
         this.color = Objects.requireNonNull(color, "La couleur ne peut pas être null");
         this.type = Objects.requireNonNull(type, "Le type ne peut pas être null");
-        this.hasMoved = false;
+    }
+
+    /**
+     * Retourne l'instance unique de la pièce de ce type et de cette couleur.
+     */
+    public static Piece of(PieceType type, Color color) {
+        return INSTANCES[index(Objects.requireNonNull(type, "Le type ne peut pas être null"),
+                Objects.requireNonNull(color, "La couleur ne peut pas être null"))];
+    }
+
+    private static int index(PieceType type, Color color) {
+        return color.ordinal() * PieceType.values().length + type.ordinal();
     }
 
     /**
@@ -46,31 +79,38 @@ public abstract class Piece {
         return type;
     }
 
-    public boolean hasMoved() {
-        return hasMoved;
-    }
-
-    public void setHasMoved(boolean hasMoved) {
-        this.hasMoved = hasMoved;
-    }
-
     /**
      * Vérifie si le chemin entre deux positions est libre.
      */
     protected boolean isPathClear(Position from, Position to, Board board) {
-        int rowDiff = Integer.compare(to.getRow() - from.getRow(), 0);
-        int colDiff = Integer.compare(to.getCol() - from.getCol(), 0);
+        return (AttackTables.between(from.index(), to.index()) & board.getOccupancy()) == 0L;
+    }
 
-        Position current = new Position(from.getRow() + rowDiff, from.getCol() + colDiff);
+    /**
+     * Filtre un ensemble d'attaques pour ne garder que les cases libres ou ennemies.
+     */
+    protected long withoutFriendlyPieces(long attacks, Board board) {
+        return attacks & ~board.getOccupancy(color);
+    }
 
-        while (!current.equals(to)) {
-            if (board.getPieceAt(current) != null) {
-                return false;
-            }
-            current = new Position(current.getRow() + rowDiff, current.getCol() + colDiff);
+    /**
+     * Convertit un ensemble de cases (bitboard) en liste de positions.
+     */
+    protected static List<Position> toPositions(long squares) {
+        List<Position> positions = new ArrayList<>(Long.bitCount(squares));
+        while (squares != 0L) {
+            int square = Long.numberOfTrailingZeros(squares);
+            positions.add(Position.of(square));
+            squares &= squares - 1;
         }
+        return positions;
+    }
 
-        return true;
+    /**
+     * Retourne le bitboard correspondant à une position.
+     */
+    protected static long bitOf(Position position) {
+        return 1L << position.index();
     }
 
     /**
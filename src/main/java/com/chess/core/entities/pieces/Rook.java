@@ -2,9 +2,9 @@ package com.chess.core.entities.pieces;
 
 import com.chess.core.entities.Color;
 import com.chess.core.entities.Position;
+import com.chess.core.entities.game.AttackTables;
 import com.chess.core.entities.game.Board;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -12,59 +12,25 @@ import java.util.List;
  */
 public class Rook extends Piece {
 
-    public Rook(Color color) {
+    Rook(Color color) {
         super(color, PieceType.ROOK);
     }
 
     @Override
     public List<Position> getLegalMoves(Position from, Board board) {
-        List<Position> moves = new ArrayList<>();
-
-        // Directions: haut, bas, gauche, droite
-        int[][] directions = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
-
-        for (int[] dir : directions) {
-            int row = from.getRow();
-            int col = from.getCol();
-
-            while (true) {
-                row += dir[0];
-                col += dir[1];
-
-                if (row < 0 || row > 7 || col < 0 || col > 7) {
-                    break;
-                }
-
-                Position target = new Position(row, col);
-                Piece targetPiece = board.getPieceAt(target);
-
-                if (targetPiece == null) {
-                    moves.add(target);
-                } else {
-                    if (targetPiece.getColor() != this.color) {
-                        moves.add(target);
-                    }
-                    break;
-                }
-            }
-        }
-
-        return moves;
+        return toPositions(targets(from, board));
     }
 
     @Override
     public boolean isValidMove(Position from, Position to, Board board) {
-        // La tour se déplace horizontalement ou verticalement
-        if (from.getRow() != to.getRow() && from.getCol() != to.getCol()) {
-            return false;
-        }
-
-        // Vérifie que le chemin est libre
-        if (!isPathClear(from, to, board)) {
-            return false;
-        }
+        // La tour se déplace horizontalement ou verticalement, sans traverser de pièce
+        return (targets(from, board) & bitOf(to)) != 0L;
+    }
 
-        // Vérifie la case de destination
-        return isValidTarget(to, board);
+    /**
+     * Cases atteignables en ligne droite, jusqu'à la première pièce rencontrée (capturable si ennemie).
+     */
+    private long targets(Position from, Board board) {
+        return withoutFriendlyPieces(AttackTables.rookAttacks(from.index(), board.getOccupancy()), board);
     }
 }
\ No newline at end of file
@@ -1,13 +1,27 @@
 package com.chess.core.ports;
 
+import com.chess.core.entities.game.EnginePosition;
+import com.chess.core.entities.game.EvaluationResult;
+import com.chess.core.entities.game.SearchResult;
+
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface pour un moteur d'échecs (ex: Stockfish).
  * Port de sortie de la Clean Architecture.
+ * <p>
+ * Les variantes asynchrones retournent un {@link CompletableFuture} : l'annuler
+ * ({@code cancel}) ou le laisser expirer ({@code orTimeout}) arrête la recherche en cours
+ * si l'implémentation le permet.
  */
 public interface ChessEngine {
 
+    /**
+     * Profondeur des évaluations de position.
+     */
+    int EVALUATION_DEPTH = 15;
+
     /**
      * Démarre le moteur d'échecs.
      */
@@ -28,13 +42,122 @@ public interface ChessEngine {
     String getBestMove(String fen, int maxDepth, long maxTimeMs);
 
     /**
-     * Évalue la position actuelle.
+     * Retourne le meilleur coup pour une position d'une partie. Un moteur qui suit les parties
+     * peut réutiliser l'analyse des coups précédents ; par défaut seule la FEN est transmise.
+     *
+     * @param position position et partie qui y mène
+     * @param maxDepth profondeur maximale à explorer
+     * @param maxTimeMs temps maximal de réflexion
+     */
+    default String getBestMove(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return getBestMove(position.getFen(), maxDepth, maxTimeMs);
+    }
+
+    /**
+     * Cherche le meilleur coup et indique la profondeur atteinte ; par défaut celle-ci est
+     * inconnue ({@link SearchResult#UNKNOWN_DEPTH}).
+     */
+    default SearchResult search(String fen, int maxDepth, long maxTimeMs) {
+        return SearchResult.of(getBestMove(fen, maxDepth, maxTimeMs), SearchResult.UNKNOWN_DEPTH, false);
+    }
+
+    /**
+     * Cherche le meilleur coup d'une position d'une partie et indique la profondeur atteinte ;
+     * par défaut celle-ci est inconnue.
+     */
+    default SearchResult search(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return SearchResult.of(getBestMove(position, maxDepth, maxTimeMs), SearchResult.UNKNOWN_DEPTH, false);
+    }
+
+    /**
+     * Variante asynchrone de {@link #search(EnginePosition, int, long)}, annulable comme
+     * {@link #getBestMoveAsync(EnginePosition, int, long)}.
+     */
+    default CompletableFuture<SearchResult> searchAsync(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (!isReady()) {
+                start();
+            }
+            return search(position, maxDepth, maxTimeMs);
+        });
+    }
+
+    /**
+     * Évalue la position actuelle, à la profondeur {@link #EVALUATION_DEPTH}.
      *
      * @param fen la position en notation FEN
      * @return l'évaluation en centipawns (100 = 1 pion d'avantage)
      */
     double evaluatePosition(String fen);
 
+    /**
+     * Évalue une position d'une partie ; par défaut seule la FEN est transmise.
+     *
+     * @return l'évaluation en centipawns
+     */
+    default double evaluatePosition(EnginePosition position) {
+        return evaluatePosition(position.getFen());
+    }
+
+    /**
+     * Évalue une position et indique la profondeur atteinte ; par défaut celle-ci est inconnue
+     * ({@link SearchResult#UNKNOWN_DEPTH}).
+     */
+    default EvaluationResult evaluate(String fen) {
+        return EvaluationResult.of(evaluatePosition(fen), SearchResult.UNKNOWN_DEPTH, false);
+    }
+
+    /**
+     * Évalue une position d'une partie et indique la profondeur atteinte ; par défaut celle-ci
+     * est inconnue.
+     */
+    default EvaluationResult evaluate(EnginePosition position) {
+        return EvaluationResult.of(evaluatePosition(position), SearchResult.UNKNOWN_DEPTH, false);
+    }
+
+    /**
+     * Variante asynchrone de {@link #evaluate(EnginePosition)}, annulable comme
+     * {@link #evaluatePositionAsync(EnginePosition)}.
+     */
+    default CompletableFuture<EvaluationResult> evaluateAsync(EnginePosition position) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (!isReady()) {
+                start();
+            }
+            return evaluate(position);
+        });
+    }
+
+    /**
+     * Cherche le meilleur coup sans bloquer l'appelant. Le moteur est démarré si nécessaire.
+     * Par défaut, la recherche bloquante est exécutée sur le pool commun et ne peut pas être
+     * interrompue : l'annulation ne fait qu'ignorer son résultat.
+     *
+     * @return le coup en notation UCI, ou null si le moteur n'en a pas trouvé
+     */
+    default CompletableFuture<String> getBestMoveAsync(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (!isReady()) {
+                start();
+            }
+            return getBestMove(position, maxDepth, maxTimeMs);
+        });
+    }
+
+    /**
+     * Évalue une position sans bloquer l'appelant. Le moteur est démarré si nécessaire.
+     *
+     * @return l'évaluation en centipawns
+     */
+    default CompletableFuture<Double> evaluatePositionAsync(EnginePosition position) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (!isReady()) {
+                start();
+            }
+            return evaluatePosition(position);
+        });
+    }
+
     /**
      * Retourne tous les coups légaux pour une position donnée.
      *
@@ -1,9 +1,16 @@
 package com.chess.core.usecases;
 
+import com.chess.core.entities.game.EnginePosition;
 import com.chess.core.entities.game.GameState;
+import com.chess.core.entities.game.LegalMoveGenerator;
+import com.chess.core.entities.game.MoveList;
+import com.chess.core.entities.game.PackedMove;
+import com.chess.core.entities.game.PositionSnapshot;
 import com.chess.core.ports.ChessEngine;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Use case pour analyser une position.
@@ -19,18 +26,77 @@ public class AnalyzePositionUseCase {
      * Analyse une position et retourne une évaluation.
      */
     public PositionAnalysis execute(GameState gameState) {
+        return execute(EnginePosition.of(gameState));
+    }
+
+    /**
+     * Analyse une position photographiée, sans accès au plateau de la partie.
+     */
+    public PositionAnalysis execute(PositionSnapshot snapshot) {
+        return execute(EnginePosition.of(snapshot));
+    }
+
+    /**
+     * Analyse une position de partie. L'évaluation et la recherche du meilleur coup portent
+     * sur la même position : le moteur ne la reçoit qu'une fois.
+     */
+    public PositionAnalysis execute(EnginePosition position) {
         if (!engine.isReady()) {
             engine.start();
         }
 
-        String fen = gameState.toFen();
-        double evaluation = engine.evaluatePosition(fen);
-        List<String> legalMoves = engine.getLegalMoves(fen);
-        String bestMove = engine.getBestMove(fen, 50,5000);
+        double evaluation = engine.evaluatePosition(position);
+        List<String> legalMoves = legalMoves(position.getSnapshot());
+        String bestMove = engine.getBestMove(position, 50,5000);
 
         return new PositionAnalysis(evaluation, bestMove, legalMoves);
     }
 
+    /**
+     * Analyse une position sans bloquer l'appelant : l'évaluation puis la recherche du meilleur
+     * coup sont placées dans la file du moteur. Annuler le résultat, ou le faire expirer,
+     * arrête celle qui est en cours et abandonne l'autre.
+     * <p>
+     * Les coups légaux sont calculés ici, avant les appels au moteur : la combinaison des
+     * résultats s'exécute sur le thread du moteur et ne doit rien lui redemander.
+     */
+    public CompletableFuture<PositionAnalysis> executeAsync(EnginePosition position) {
+        List<String> legalMoves = legalMoves(position.getSnapshot());
+        CompletableFuture<Double> evaluation = engine.evaluatePositionAsync(position);
+        CompletableFuture<String> bestMove = engine.getBestMoveAsync(position, 50, 5000);
+        CompletableFuture<PositionAnalysis> analysis = evaluation.thenCombine(bestMove,
+                (score, move) -> new PositionAnalysis(score, move, legalMoves));
+        analysis.whenComplete((result, error) -> {
+            if (error != null) {
+                evaluation.cancel(true);
+                bestMove.cancel(true);
+            }
+        });
+        return analysis;
+    }
+
+    /**
+     * Évalue une position sans bloquer l'appelant, sans recherche du meilleur coup.
+     *
+     * @return l'évaluation en centipawns
+     */
+    public CompletableFuture<Double> evaluateAsync(EnginePosition position) {
+        return engine.evaluatePositionAsync(position);
+    }
+
+    /**
+     * Coups légaux du camp au trait, en notation UCI.
+     */
+    private static List<String> legalMoves(PositionSnapshot snapshot) {
+        MoveList moves = new MoveList();
+        LegalMoveGenerator.generateLegalMoves(snapshot.toBoard(), snapshot.getSideToMove(), moves);
+        List<String> notations = new ArrayList<>(moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            notations.add(PackedMove.toAlgebraic(moves.get(i)));
+        }
+        return notations;
+    }
+
     /**
      * Résultat de l'analyse d'une position.
      */
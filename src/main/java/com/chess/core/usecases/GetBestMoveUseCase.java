@@ -1,13 +1,20 @@
 package com.chess.core.usecases;
 
+import com.chess.core.entities.game.EnginePosition;
 import com.chess.core.entities.game.GameState;
 import com.chess.core.entities.game.Move;
+import com.chess.core.entities.game.PositionSnapshot;
 import com.chess.core.ports.ChessEngine;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Use case pour obtenir le meilleur coup selon le moteur d'échecs.
  */
 public class GetBestMoveUseCase {
+    private static final int MAX_DEPTH = 50;
+    private static final long MAX_TIME_MS = 5000;
+
     private final ChessEngine engine;
 
     public GetBestMoveUseCase(ChessEngine engine) {
@@ -15,20 +22,50 @@ public class GetBestMoveUseCase {
     }
 
     public Move execute(GameState gameState) {
+        return execute(EnginePosition.of(gameState));
+    }
+
+    /**
+     * Cherche le meilleur coup d'une position photographiée, sans historique de partie.
+     */
+    public Move execute(PositionSnapshot snapshot) {
+        return execute(EnginePosition.of(snapshot));
+    }
+
+    /**
+     * Cherche le meilleur coup d'une position de partie capturée par {@link EnginePosition#of(GameState)}.
+     * Utilisable depuis un thread d'arrière-plan pendant que la partie continue : le plateau
+     * de la partie n'est pas lu.
+     */
+    public Move execute(EnginePosition position) {
         if (!engine.isReady()) {
             engine.start();
         }
-        String fen = gameState.toFen();
-        String bestMoveStr = engine.getBestMove(fen, 50, 5000);
+        String bestMoveStr = engine.getBestMove(position, MAX_DEPTH, MAX_TIME_MS);
         // Convertir bestMoveStr en objet Move
-        return parseMove(bestMoveStr,gameState);
+        return parseMove(bestMoveStr, position.getSnapshot());
+    }
+
+    /**
+     * Cherche le meilleur coup sans bloquer l'appelant. Annuler le résultat, ou le faire
+     * expirer avec {@code orTimeout}, arrête la recherche du moteur.
+     */
+    public CompletableFuture<Move> executeAsync(EnginePosition position) {
+        CompletableFuture<String> search = engine.getBestMoveAsync(position, MAX_DEPTH, MAX_TIME_MS);
+        CompletableFuture<Move> move = search.thenApply(bestMove -> parseMove(bestMove, position.getSnapshot()));
+        move.whenComplete((result, error) -> {
+            if (error != null) {
+                search.cancel(true);
+            }
+        });
+        return move;
     }
 
-    private Move parseMove(String bestMoveStr,GameState gameState) {
+    private Move parseMove(String bestMoveStr, PositionSnapshot snapshot) {
         if (bestMoveStr == null || bestMoveStr.isEmpty()) {
             throw new NoMoveFoundException("Le moteur n'a pas trouvé de coup");
         }
-        return Move.fromAlgebraic(bestMoveStr, gameState.getBoard());
+        return Move.fromAlgebraic(bestMoveStr, snapshot.toBoard());
     }
 
     /**
@@ -5,6 +5,9 @@ import com.chess.core.entities.Position;
 import com.chess.core.entities.game.Board;
 import com.chess.core.entities.game.GameState;
 import com.chess.core.entities.game.Move;
+import com.chess.core.entities.game.PackedMove;
+import com.chess.core.entities.game.SanCodec;
+import com.chess.core.entities.game.UndoInfo;
 import com.chess.core.entities.pieces.*;
 import com.chess.core.ports.MoveLogger;
 import com.chess.core.ports.ChessEngine;
@@ -15,12 +18,12 @@ import com.chess.core.ports.ChessEngine;
 public class MovePieceInteractor implements MovePieceUseCase {
     private final MoveLogger moveLogger;
     private final ChessEngine chessEngine;
-    private final DrawDetectorUseCase drawDetectorUseCase;
+    private final PositionStatusUseCase positionStatusUseCase;
 
     public MovePieceInteractor(MoveLogger moveLogger, ChessEngine chessEngine) {
         this.moveLogger = moveLogger;
         this.chessEngine = chessEngine;
-        this.drawDetectorUseCase = new DrawDetectorUseCase();
+        this.positionStatusUseCase = new PositionStatusUseCase();
     }
 
     @Override
@@ -31,7 +34,6 @@ public class MovePieceInteractor implements MovePieceUseCase {
     @Override
     public Move execute(GameState gameState, Position from, Position to, PieceType promotionPiece) {
         Board board = gameState.getBoard();
-        Color activeColor = gameState.getActivePlayer();
 
         // Validation de base
         validateMove(gameState, from, to);
@@ -51,26 +53,29 @@ public class MovePieceInteractor implements MovePieceUseCase {
         moveBuilder.withMoveType(moveType);
 
         // Gestion de la promotion
+        PieceType promotion = null;
         if (piece.getType() == PieceType.PAWN && ((Pawn) piece).canPromote(to)) {
-            if (promotionPiece == null) {
-                promotionPiece = PieceType.QUEEN; // Par défaut
-            }
-            moveBuilder.withPromotion(promotionPiece);
+            promotion = promotionPiece != null ? promotionPiece : PieceType.QUEEN; // Par défaut
+            moveBuilder.withPromotion(promotion);
         }
 
-        Move move = moveBuilder.build();
+        // Notation SAN, écrite dans la position d'avant le coup pour l'historique et le PGN ;
+        // le coup est encodé directement pour ne construire le Move qu'une fois
+        int packed = PackedMove.of(from.index(), to.index(), moveType, promotion,
+                capturedPiece != null || moveType == Move.MoveType.EN_PASSANT);
+        Move move = moveBuilder.withSan(SanCodec.toSan(board, piece.getColor(), packed)).build();
 
         // Exécution du mouvement
-        executeMove(move, board);
+        UndoInfo undo = executeMove(move, board);
 
-        // Mise à jour de l'état de la partie
-        gameState.recordMove(move);
-        updateGameState(gameState, move);
+        // Mise à jour de l'état de la partie (le trait passe à l'adversaire avant les vérifications)
+        gameState.recordMove(move, undo);
         gameState.switchPlayer();
+        updateGameState(gameState);
 
         // Logging
         if (moveLogger != null) {
-            moveLogger.logMove("current", move, gameState.getMoveCount());
+            moveLogger.logMove(gameState.getGameId(), move, gameState.getMoveCount());
         }
 
         return move;
@@ -78,12 +83,8 @@ public class MovePieceInteractor implements MovePieceUseCase {
 
     @Override
     public boolean isLegalMove(GameState gameState, Position from, Position to) {
-        try {
-            validateMove(gameState, from, to);
-            return true;
-        } catch (IllegalMoveException e) {
-            return false;
-        }
+        // Les coups légaux ne concernent que le joueur actif : lecture directe dans la table
+        return gameState.getLegalTargets().isLegal(from, to);
     }
 
     /**
@@ -109,7 +110,7 @@ public class MovePieceInteractor implements MovePieceUseCase {
         }
 
         // Vérification que le mouvement ne met pas le roi en échec
-        if (wouldLeaveKingInCheck(board, from, to, piece.getColor())) {
+        if (!gameState.getLegalTargets().isLegal(from, to)) {
             throw new IllegalMoveException("Ce mouvement mettrait le roi en échec");
         }
     }
@@ -141,131 +142,26 @@ public class MovePieceInteractor implements MovePieceUseCase {
 
     /**
      * Exécute physiquement le mouvement sur le plateau.
+     * Le plateau met à jour roque, prise en passant, droits de roque et compteurs.
      */
-    private void executeMove(Move move, Board board) {
-        Position from = move.getFrom();
-        Position to = move.getTo();
-        Piece piece = board.getPieceAt(from);
-
-        // Mouvement standard
-        board.removePiece(from);
-
-        // Gestion de la promotion
-        if (move.isPromotion()) {
-            Piece promotedPiece = createPiece(move.getPromotionPiece(), piece.getColor());
-            board.placePiece(promotedPiece, to);
-        } else {
-            board.placePiece(piece, to);
-        }
-
-        piece.setHasMoved(true);
-
-        // Gestion du roque
-        if (move.isCastling()) {
-            executeCastling(move, board);
-        }
-
-        // Gestion de la prise en passant
-        if (move.getMoveType() == Move.MoveType.EN_PASSANT) {
-            int capturedPawnRow = piece.getColor() == Color.WHITE ? to.getRow() - 1 : to.getRow() + 1;
-            board.removePiece(new Position(capturedPawnRow, to.getCol()));
-        }
-
-        // Mise à jour de la case de prise en passant
-        updateEnPassantTarget(move, board, piece);
-
-        // Mise à jour des droits de roque
-        updateCastlingRights(move, board);
-    }
-
-    /**
-     * Exécute un roque.
-     */
-    private void executeCastling(Move move, Board board) {
-        int row = move.getFrom().getRow();
-
-        if (move.getMoveType() == Move.MoveType.CASTLING_KING_SIDE) {
-            // Petit roque
-            Piece rook = board.removePiece(new Position(row, 7));
-            board.placePiece(rook, new Position(row, 5));
-            rook.setHasMoved(true);
-        } else {
-            // Grand roque
-            Piece rook = board.removePiece(new Position(row, 0));
-            board.placePiece(rook, new Position(row, 3));
-            rook.setHasMoved(true);
-        }
-    }
-
-    /**
-     * Met à jour la case de prise en passant.
-     */
-    private void updateEnPassantTarget(Move move, Board board, Piece piece) {
-        if (piece.getType() == PieceType.PAWN) {
-            int rowDiff = Math.abs(move.getTo().getRow() - move.getFrom().getRow());
-            if (rowDiff == 2) {
-                int targetRow = (move.getFrom().getRow() + move.getTo().getRow()) / 2;
-                board.setEnPassantTarget(new Position(targetRow, move.getFrom().getCol()));
-                return;
-            }
-        }
-        board.setEnPassantTarget(null);
-    }
-
-    /**
-     * Met à jour les droits de roque.
-     */
-    private void updateCastlingRights(Move move, Board board) {
-        Piece piece = board.getPieceAt(move.getTo());
-
-        if (piece.getType() == PieceType.KING) {
-            board.getCastlingRights(piece.getColor()).disableAll();
-        } else if (piece.getType() == PieceType.ROOK) {
-            Board.CastlingRights rights = board.getCastlingRights(piece.getColor());
-            if (move.getFrom().getCol() == 0) {
-                rights.setQueenSide(false);
-            } else if (move.getFrom().getCol() == 7) {
-                rights.setKingSide(false);
-            }
-        }
-    }
-
-    /**
-     * Vérifie si un mouvement mettrait le roi en échec.
-     */
-    private boolean wouldLeaveKingInCheck(Board board, Position from, Position to, Color color) {
-        // Simulation du mouvement
-        Board tempBoard = board.copy();
-        Piece piece = tempBoard.removePiece(from);
-        tempBoard.placePiece(piece, to);
-
-        return tempBoard.isKingInCheck(color);
+    private UndoInfo executeMove(Move move, Board board) {
+        return board.makeMove(move);
     }
 
     /**
      * Met à jour l'état de la partie après un mouvement.
      */
-    private void updateGameState(GameState gameState, Move move) {
+    private void updateGameState(GameState gameState) {
         Board board = gameState.getBoard();
 
-        // Mise à jour du compteur de demi-coups
-        if (move.isCapture() || move.getMovedPiece().getType() == PieceType.PAWN) {
-            board.resetHalfMoveClock();
-            // Réinitialiser l'historique de répétition car la position est irréversible
-            drawDetectorUseCase.reset();
-        } else {
-            board.incrementHalfMoveClock();
-        }
+        Color nextPlayer = gameState.getActivePlayer();
 
-        // Mise à jour du numéro de coup
-        if (gameState.getActivePlayer() == Color.BLACK) {
-            board.incrementFullMoveNumber();
-        }
+        // Échec, coups légaux et matériel évalués une seule fois pour ce demi-coup
+        PositionStatusUseCase.PositionStatus status = positionStatusUseCase.evaluate(board, nextPlayer);
 
         // Vérification de l'échec et du mat
-        Color nextPlayer = gameState.getActivePlayer().opposite();
-        if (board.isKingInCheck(nextPlayer)) {
-            if (isCheckmate(board, nextPlayer)) {
+        if (status.isInCheck()) {
+            if (status.isCheckmate()) {
                 gameState.updateStatus(GameState.GameStatus.CHECKMATE);
                 return;
             } else {
@@ -274,20 +170,20 @@ public class MovePieceInteractor implements MovePieceUseCase {
         }
 
         // Vérification de toutes les conditions de nulle
-        DrawDetectorUseCase.DrawResult drawResult = drawDetectorUseCase.checkForDraw(gameState);
+        DrawDetectorUseCase.DrawResult drawResult = getDrawDetector(gameState).checkForDraw(gameState, status);
         if (drawResult.isDraw()) {
             if (drawResult.isAutomatic()) {
                 // Nulle automatique
                 gameState.updateStatus(GameState.GameStatus.DRAW);
                 if (moveLogger != null) {
-                    moveLogger.logEvent("current",
+                    moveLogger.logEvent(gameState.getGameId(),
                             "Nulle automatique: " + drawResult.getDrawType().getDescription());
                 }
             } else {
                 // Nulle sur réclamation possible
                 gameState.updateStatus(GameState.GameStatus.IN_PROGRESS);
                 if (moveLogger != null) {
-                    moveLogger.logEvent("current",
+                    moveLogger.logEvent(gameState.getGameId(),
                             "Nulle réclamable: " + drawResult.getDrawType().getDescription());
                 }
             }
@@ -295,51 +191,17 @@ public class MovePieceInteractor implements MovePieceUseCase {
     }
 
     /**
-     * Obtient le détecteur de nulle (pour vérification externe).
+     * Obtient un détecteur de nulle pour la partie donnée (pour vérification externe).
+     * <p>
+     * L'historique de répétition est celui de la partie elle-même (positions depuis le dernier
+     * coup irréversible) : l'interactor ne garde aucun état propre à une partie et peut servir
+     * plusieurs parties en parallèle, chacune restant confinée à un thread.
      */
-    public DrawDetectorUseCase getDrawDetector() {
-        return drawDetectorUseCase;
-    }
-
-    /**
-     * Vérifie si c'est un échec et mat.
-     */
-    private boolean isCheckmate(Board board, Color color) {
-        return board.isKingInCheck(color) && !hasLegalMoves(board, color);
-    }
-
-    /**
-     * Vérifie si un joueur a des coups légaux.
-     */
-    private boolean hasLegalMoves(Board board, Color color) {
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                Position from = new Position(row, col);
-                Piece piece = board.getPieceAt(from);
-
-                if (piece != null && piece.getColor() == color) {
-                    for (Position to : piece.getLegalMoves(from, board)) {
-                        if (!wouldLeaveKingInCheck(board, from, to, color)) {
-                            return true;
-                        }
-                    }
-                }
-            }
+    public DrawDetectorUseCase getDrawDetector(GameState gameState) {
+        DrawDetectorUseCase drawDetector = new DrawDetectorUseCase(positionStatusUseCase);
+        for (long key : gameState.getRepetitionKeys()) {
+            drawDetector.recordPosition(key);
         }
-        return false;
-    }
-
-    /**
-     * Crée une pièce selon son type et sa couleur.
-     */
-    private Piece createPiece(PieceType type, Color color) {
-        return switch (type) {
-            case KING -> new King(color);
-            case QUEEN -> new Queen(color);
-            case ROOK -> new Rook(color);
-            case BISHOP -> new Bishop(color);
-            case KNIGHT -> new Knight(color);
-            case PAWN -> new Pawn(color);
-        };
+        return drawDetector;
     }
-}
\ No newline at end of file
+}
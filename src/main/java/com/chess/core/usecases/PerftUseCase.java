@@ -0,0 +1,252 @@
+package com.chess.core.usecases;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.game.Board;
+import com.chess.core.entities.game.GameState;
+import com.chess.core.entities.game.LegalMoveGenerator;
+import com.chess.core.entities.game.MoveList;
+import com.chess.core.entities.game.PackedMove;
+import com.chess.core.entities.game.UndoInfo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Use case "perft" : compte les feuilles de l'arbre des coups légaux jusqu'à une profondeur donnée.
+ * <p>
+ * Sert à vérifier la génération de coups (les nombres de nœuds des positions de référence
+ * sont connus) et à en mesurer la vitesse. Les coups racines peuvent être répartis sur un
+ * {@link ForkJoinPool}, et un cache optionnel mémorise les sous-arbres déjà comptés.
+ */
+public class PerftUseCase {
+    private static final long DEPTH_MIX = 0x9E3779B97F4A7C15L;
+
+    // Cache sans verrou : la clé est stockée XOR la valeur pour détecter les écritures concurrentes
+    private final long[] cacheChecks;
+    private final long[] cacheNodes;
+    private final int cacheMask;
+
+    public PerftUseCase() {
+        this(0);
+    }
+
+    /**
+     * @param cacheSizeMb taille du cache en mégaoctets (0 pour désactiver)
+     */
+    public PerftUseCase(int cacheSizeMb) {
+        if (cacheSizeMb > 0) {
+            int entries = Integer.highestOneBit((int) Math.min(1L << 30, cacheSizeMb * 1024L * 1024L / 16));
+            this.cacheChecks = new long[entries];
+            this.cacheNodes = new long[entries];
+            this.cacheMask = entries - 1;
+        } else {
+            this.cacheChecks = null;
+            this.cacheNodes = null;
+            this.cacheMask = 0;
+        }
+    }
+
+    /**
+     * Compte les feuilles à partir de la position de la partie.
+     */
+    public long execute(GameState gameState, int depth) {
+        return perft(gameState.getBoard().copy(), gameState.getActivePlayer(), depth);
+    }
+
+    /**
+     * Compte les feuilles à la profondeur donnée. Le plateau est restauré à la fin.
+     */
+    public long perft(Board board, Color sideToMove, int depth) {
+        if (depth <= 0) {
+            return 1;
+        }
+        return count(board, sideToMove, depth, new Buffers(depth));
+    }
+
+    /**
+     * Compte les feuilles sous chaque coup racine ("divide"), dans l'ordre de génération.
+     */
+    public Map<String, Long> divide(Board board, Color sideToMove, int depth) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        Buffers buffers = new Buffers(depth);
+        MoveList rootMoves = new MoveList();
+        LegalMoveGenerator.generateLegalMoves(board, sideToMove, rootMoves);
+        UndoInfo undo = new UndoInfo();
+        for (int i = 0; i < rootMoves.size(); i++) {
+            int move = rootMoves.get(i);
+            board.makeMove(move, undo);
+            long nodes = depth <= 1 ? 1 : count(board, sideToMove.opposite(), depth - 1, buffers);
+            board.unmakeMove(undo);
+            result.put(PackedMove.toAlgebraic(move), nodes);
+        }
+        return result;
+    }
+
+    /**
+     * Variante parallèle de {@link #divide} : chaque coup racine est compté sur sa propre copie
+     * du plateau dans le pool fourni.
+     */
+    public Map<String, Long> divideParallel(Board board, Color sideToMove, int depth, ForkJoinPool pool) {
+        MoveList rootMoves = new MoveList();
+        LegalMoveGenerator.generateLegalMoves(board, sideToMove, rootMoves);
+        List<ForkJoinTask<Long>> tasks = new ArrayList<>(rootMoves.size());
+        for (int i = 0; i < rootMoves.size(); i++) {
+            int move = rootMoves.get(i);
+            Board copy = board.copy();
+            tasks.add(pool.submit(() -> {
+                copy.makeMove(move, new UndoInfo());
+                return depth <= 1 ? 1L : count(copy, sideToMove.opposite(), depth - 1, new Buffers(depth));
+            }));
+        }
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < rootMoves.size(); i++) {
+            result.put(PackedMove.toAlgebraic(rootMoves.get(i)), tasks.get(i).join());
+        }
+        return result;
+    }
+
+    /**
+     * Compte les feuilles en répartissant les coups racines sur le pool.
+     */
+    public long perftParallel(Board board, Color sideToMove, int depth, ForkJoinPool pool) {
+        if (depth <= 0) {
+            return 1;
+        }
+        long total = 0;
+        for (long nodes : divideParallel(board, sideToMove, depth, pool).values()) {
+            total += nodes;
+        }
+        return total;
+    }
+
+    private long count(Board board, Color sideToMove, int depth, Buffers buffers) {
+        MoveList moves = buffers.moves[depth - 1];
+        LegalMoveGenerator.generateLegalMoves(board, sideToMove, moves);
+        if (depth == 1) {
+            return moves.size();
+        }
+
+        long key = 0L;
+        int index = 0;
+        if (cacheChecks != null) {
+            key = board.getZobristKey(sideToMove) ^ (depth * DEPTH_MIX);
+            index = (int) key & cacheMask;
+            long nodes = cacheNodes[index];
+            if ((cacheChecks[index] ^ nodes) == key) {
+                return nodes;
+            }
+        }
+
+        UndoInfo undo = buffers.undos[depth - 1];
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i), undo);
+            nodes += count(board, sideToMove.opposite(), depth - 1, buffers);
+            board.unmakeMove(undo);
+        }
+
+        if (cacheChecks != null) {
+            cacheNodes[index] = nodes;
+            cacheChecks[index] = key ^ nodes;
+        }
+        return nodes;
+    }
+
+    /**
+     * Listes de coups et structures d'annulation réutilisées à chaque profondeur.
+     */
+    private static final class Buffers {
+        private final MoveList[] moves;
+        private final UndoInfo[] undos;
+
+        private Buffers(int depth) {
+            int size = Math.max(depth, 1);
+            this.moves = new MoveList[size];
+            this.undos = new UndoInfo[size];
+            for (int i = 0; i < size; i++) {
+                moves[i] = new MoveList();
+                undos[i] = new UndoInfo();
+            }
+        }
+    }
+
+    /**
+     * Positions de référence avec leurs nombres de nœuds connus.
+     */
+    public static List<PerftPosition> standardSuite() {
+        return List.of(
+                new PerftPosition("Position initiale",
+                        "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                        20, 400, 8902, 197281, 4865609),
+                new PerftPosition("Kiwipete",
+                        "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                        48, 2039, 97862, 4085603),
+                new PerftPosition("Finale tours et pions (prise en passant)",
+                        "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+                        14, 191, 2812, 43238, 674624),
+                new PerftPosition("Promotions et roque noir",
+                        "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                        6, 264, 9467, 422333),
+                new PerftPosition("Promotion avec capture",
+                        "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+                        44, 1486, 62379, 2103487),
+                new PerftPosition("Milieu de partie symétrique",
+                        "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+                        46, 2079, 89890, 3894594),
+                new PerftPosition("Prise en passant illégale (clouage)",
+                        "8/5bk1/8/2Pp4/8/1K6/8/8 w - d6 0 1",
+                        8, 104, 736, 9287, 62297, 824064),
+                new PerftPosition("Prise en passant donnant échec",
+                        "8/8/1k6/2b5/2pP4/8/5K2/8 b - d3 0 1",
+                        15, 126, 1928, 13931, 206379, 1440467),
+                new PerftPosition("Petit roque donnant échec",
+                        "5k2/8/8/8/8/8/8/4K2R w K - 0 1",
+                        15, 66, 1198, 6399, 120330, 661072),
+                new PerftPosition("Promotion pour parer l'échec",
+                        "2K2r2/4P3/8/8/8/8/8/3k4 w - - 0 1",
+                        11, 133, 1442, 19174, 266199, 3821001),
+                new PerftPosition("Promotion donnant échec",
+                        "4k3/1P6/8/8/8/8/K7/8 w - - 0 1",
+                        9, 40, 472, 2661, 38983, 217342),
+                new PerftPosition("Sous-promotion donnant échec",
+                        "8/P1k5/K7/8/8/8/8/8 w - - 0 1",
+                        6, 27, 273, 1329, 18135, 92683)
+        );
+    }
+
+    /**
+     * Position de référence : FEN et nombre de nœuds attendu pour chaque profondeur (à partir de 1).
+     */
+    public static class PerftPosition {
+        private final String name;
+        private final String fen;
+        private final long[] expectedNodes;
+
+        public PerftPosition(String name, String fen, long... expectedNodes) {
+            this.name = name;
+            this.fen = fen;
+            this.expectedNodes = expectedNodes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getFen() {
+            return fen;
+        }
+
+        public int getMaxDepth() {
+            return expectedNodes.length;
+        }
+
+        public long getExpectedNodes(int depth) {
+            return expectedNodes[depth - 1];
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.chess.core.usecases;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.game.Board;
+import com.chess.core.entities.game.LegalMoveGenerator;
+import com.chess.core.entities.game.MaterialKey;
+
+/**
+ * Évalue une fois par demi-coup tout ce qui décide de la fin de partie : échec, existence
+ * d'un coup légal et matériel. Le résultat est partagé par {@link MovePieceInteractor}
+ * (échec et mat) et {@link DrawDetectorUseCase} (pat, matériel insuffisant, position morte).
+ */
+public class PositionStatusUseCase {
+
+    /**
+     * Évalue la position pour le camp au trait.
+     * Le matériel est décidé par la signature matérielle du plateau, sans parcours des pièces.
+     */
+    public PositionStatus evaluate(Board board, Color sideToMove) {
+        boolean inCheck = board.isKingInCheck(sideToMove);
+        boolean hasLegalMove = LegalMoveGenerator.hasLegalMove(board, sideToMove);
+        long materialKey = board.getMaterialKey();
+
+        return new PositionStatus(inCheck, hasLegalMove,
+                MaterialKey.isInsufficientMaterial(materialKey),
+                MaterialKey.isKingsOnly(materialKey));
+    }
+
+    /**
+     * Statut d'une position pour le camp au trait.
+     */
+    public static final class PositionStatus {
+        private final boolean inCheck;
+        private final boolean hasLegalMove;
+        private final boolean insufficientMaterial;
+        private final boolean deadPosition;
+
+        public PositionStatus(boolean inCheck, boolean hasLegalMove, boolean insufficientMaterial,
+                              boolean deadPosition) {
+            this.inCheck = inCheck;
+            this.hasLegalMove = hasLegalMove;
+            this.insufficientMaterial = insufficientMaterial;
+            this.deadPosition = deadPosition;
+        }
+
+        public boolean isInCheck() { return inCheck; }
+        public boolean hasLegalMove() { return hasLegalMove; }
+        public boolean isInsufficientMaterial() { return insufficientMaterial; }
+        public boolean isDeadPosition() { return deadPosition; }
+
+        public boolean isCheckmate() {
+            return inCheck && !hasLegalMove;
+        }
+
+        public boolean isStalemate() {
+            return !inCheck && !hasLegalMove;
+        }
+    }
+}
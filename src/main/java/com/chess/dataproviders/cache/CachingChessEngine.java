@@ -0,0 +1,235 @@
+package com.chess.dataproviders.cache;
+
+import com.chess.core.entities.game.EnginePosition;
+import com.chess.core.entities.game.EvaluationResult;
+import com.chess.core.entities.game.SearchResult;
+import com.chess.core.ports.ChessEngine;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Moteur qui consulte un {@link EvaluationCache} avant de déléguer au vrai moteur, et y
+ * enregistre chaque réponse.
+ * <p>
+ * La clé d'une position est un hachage 64 bits de sa FEN normalisée (placement, trait, roques,
+ * prise en passant, sans les compteurs de coups), combiné au niveau du moteur. Une même
+ * position atteinte par des parties différentes, ou rouverte plus tard, est donc reconnue.
+ * Un meilleur coup est indexé par la profondeur que la recherche a réellement atteinte (au plus
+ * celle demandée) : il ne sert qu'aux demandes de profondeur inférieure ou égale. Les recherches
+ * interrompues, ou d'un moteur qui ne rapporte pas sa profondeur, ne sont pas gardées. Les
+ * évaluations suivent la même règle, pour la profondeur {@link ChessEngine#EVALUATION_DEPTH}.
+ */
+public class CachingChessEngine implements ChessEngine {
+    private final ChessEngine engine;
+    private final EvaluationCache cache;
+    private volatile int skillLevel = 20;
+
+    public CachingChessEngine(ChessEngine engine, EvaluationCache cache) {
+        this.engine = engine;
+        this.cache = cache;
+    }
+
+    @Override
+    public void start() {
+        engine.start();
+    }
+
+    @Override
+    public void stop() {
+        engine.stop();
+    }
+
+    @Override
+    public String getBestMove(String fen, int maxDepth, long maxTimeMs) {
+        return search(fen, maxDepth, maxTimeMs).getBestMove();
+    }
+
+    @Override
+    public String getBestMove(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return search(position, maxDepth, maxTimeMs).getBestMove();
+    }
+
+    @Override
+    public CompletableFuture<String> getBestMoveAsync(EnginePosition position, int maxDepth, long maxTimeMs) {
+        long key = positionKey(position.getFen());
+        String cached = cache.getBestMove(key, maxDepth);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<SearchResult> search = engine.searchAsync(position, maxDepth, maxTimeMs);
+        CompletableFuture<String> move = search.thenApply(result -> store(key, maxDepth, result).getBestMove());
+        // Annuler le coup, ou le laisser expirer, arrête la recherche du moteur
+        move.whenComplete((result, error) -> {
+            if (error != null) {
+                search.cancel(true);
+            }
+        });
+        return move;
+    }
+
+    @Override
+    public SearchResult search(String fen, int maxDepth, long maxTimeMs) {
+        long key = positionKey(fen);
+        String cached = cache.getBestMove(key, maxDepth);
+        if (cached != null) {
+            return SearchResult.of(cached, maxDepth, false);
+        }
+        return store(key, maxDepth, engine.search(fen, maxDepth, maxTimeMs));
+    }
+
+    @Override
+    public SearchResult search(EnginePosition position, int maxDepth, long maxTimeMs) {
+        long key = positionKey(position.getFen());
+        String cached = cache.getBestMove(key, maxDepth);
+        if (cached != null) {
+            return SearchResult.of(cached, maxDepth, false);
+        }
+        return store(key, maxDepth, engine.search(position, maxDepth, maxTimeMs));
+    }
+
+    @Override
+    public CompletableFuture<SearchResult> searchAsync(EnginePosition position, int maxDepth, long maxTimeMs) {
+        long key = positionKey(position.getFen());
+        String cached = cache.getBestMove(key, maxDepth);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(SearchResult.of(cached, maxDepth, false));
+        }
+        // Le futur du moteur est retourné tel quel pour que son annulation arrête la recherche
+        CompletableFuture<SearchResult> search = engine.searchAsync(position, maxDepth, maxTimeMs);
+        search.thenAccept(result -> store(key, maxDepth, result));
+        return search;
+    }
+
+    @Override
+    public double evaluatePosition(String fen) {
+        return evaluate(fen).getScore();
+    }
+
+    @Override
+    public double evaluatePosition(EnginePosition position) {
+        return evaluate(position).getScore();
+    }
+
+    @Override
+    public CompletableFuture<Double> evaluatePositionAsync(EnginePosition position) {
+        long key = positionKey(position.getFen());
+        Double cached = cache.getEvaluation(key, EVALUATION_DEPTH);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<EvaluationResult> evaluation = engine.evaluateAsync(position);
+        CompletableFuture<Double> score = evaluation.thenApply(result -> store(key, result).getScore());
+        // Annuler le score, ou le laisser expirer, arrête l'évaluation du moteur
+        score.whenComplete((result, error) -> {
+            if (error != null) {
+                evaluation.cancel(true);
+            }
+        });
+        return score;
+    }
+
+    @Override
+    public EvaluationResult evaluate(String fen) {
+        long key = positionKey(fen);
+        Double cached = cache.getEvaluation(key, EVALUATION_DEPTH);
+        if (cached != null) {
+            return EvaluationResult.of(cached, EVALUATION_DEPTH, false);
+        }
+        return store(key, engine.evaluate(fen));
+    }
+
+    @Override
+    public EvaluationResult evaluate(EnginePosition position) {
+        long key = positionKey(position.getFen());
+        Double cached = cache.getEvaluation(key, EVALUATION_DEPTH);
+        if (cached != null) {
+            return EvaluationResult.of(cached, EVALUATION_DEPTH, false);
+        }
+        return store(key, engine.evaluate(position));
+    }
+
+    @Override
+    public CompletableFuture<EvaluationResult> evaluateAsync(EnginePosition position) {
+        long key = positionKey(position.getFen());
+        Double cached = cache.getEvaluation(key, EVALUATION_DEPTH);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(EvaluationResult.of(cached, EVALUATION_DEPTH, false));
+        }
+        // Le futur du moteur est retourné tel quel pour que son annulation arrête l'évaluation
+        CompletableFuture<EvaluationResult> evaluation = engine.evaluateAsync(position);
+        evaluation.thenAccept(result -> store(key, result));
+        return evaluation;
+    }
+
+    @Override
+    public List<String> getLegalMoves(String fen) {
+        return engine.getLegalMoves(fen);
+    }
+
+    @Override
+    public void setSkillLevel(int level) {
+        this.skillLevel = Math.max(1, Math.min(20, level));
+        engine.setSkillLevel(level);
+    }
+
+    @Override
+    public String getEngineInfo() {
+        return engine.getEngineInfo();
+    }
+
+    @Override
+    public boolean isReady() {
+        return engine.isReady();
+    }
+
+    /**
+     * Retourne la clé de cache d'une position au niveau courant du moteur.
+     */
+    long positionKey(String fen) {
+        return positionKey(fen, skillLevel);
+    }
+
+    /**
+     * Hachage FNV-1a 64 bits de la FEN sans ses deux compteurs, mélangé avec le niveau.
+     */
+    static long positionKey(String fen, int skillLevel) {
+        long hash = 0xCBF29CE484222325L;
+        int fields = 0;
+        for (int i = 0; i < fen.length(); i++) {
+            char c = fen.charAt(i);
+            if (c == ' ' && ++fields == 4) {
+                break;
+            }
+            hash = (hash ^ c) * 0x100000001B3L;
+        }
+        hash ^= skillLevel * 0x9E3779B97F4A7C15L;
+        // Finalisation pour répartir les bits de poids faible (index du fichier)
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Enregistre le coup d'une recherche menée à son terme, sous la profondeur qu'elle a
+     * réellement atteinte. Une recherche interrompue ou de profondeur inconnue n'est pas gardée.
+     */
+    private SearchResult store(long key, int maxDepth, SearchResult result) {
+        int depth = Math.min(maxDepth, result.getDepth());
+        if (result.getBestMove() != null && !result.isInterrupted() && depth > SearchResult.UNKNOWN_DEPTH) {
+            cache.putBestMove(key, depth, result.getBestMove());
+        }
+        return result;
+    }
+
+    /**
+     * Enregistre le score d'une évaluation menée à son terme, sous la profondeur qu'elle a
+     * réellement atteinte, selon la même règle que {@link #store(long, int, SearchResult)}.
+     */
+    private EvaluationResult store(long key, EvaluationResult result) {
+        int depth = Math.min(EVALUATION_DEPTH, result.getDepth());
+        if (!result.isInterrupted() && depth > SearchResult.UNKNOWN_DEPTH) {
+            cache.putEvaluation(key, depth, result.getScore());
+        }
+        return result;
+    }
+}
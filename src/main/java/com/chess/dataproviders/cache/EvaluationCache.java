@@ -0,0 +1,173 @@
+package com.chess.dataproviders.cache;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache à deux niveaux des évaluations et meilleurs coups, indexé par une clé de position
+ * sur 64 bits :
+ * <ul>
+ *   <li>en mémoire, les dernières positions utilisées (LRU) ;</li>
+ *   <li>sur disque, facultatif, un fichier projeté en mémoire ({@link MappedEvaluationFile})
+ *   qui survit aux redémarrages.</li>
+ * </ul>
+ * Un meilleur coup ou une évaluation n'est réutilisé que s'il a été obtenu à une profondeur
+ * au moins égale à celle demandée. Les écritures vont aux deux niveaux ; une lecture réussie sur disque remonte
+ * la position en mémoire.
+ */
+public final class EvaluationCache implements AutoCloseable {
+    public static final int DEFAULT_MEMORY_CAPACITY = 50_000;
+    public static final int DEFAULT_DISK_SLOTS = 1 << 18;
+
+    private final Map<Long, Entry> memory;
+    private final MappedEvaluationFile disk;
+
+    private EvaluationCache(int memoryCapacity, MappedEvaluationFile disk) {
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > memoryCapacity;
+            }
+        };
+        this.disk = disk;
+    }
+
+    /**
+     * Cache en mémoire seulement.
+     */
+    public static EvaluationCache inMemory(int memoryCapacity) {
+        return new EvaluationCache(memoryCapacity, null);
+    }
+
+    /**
+     * Cache en mémoire adossé au fichier donné, créé s'il n'existe pas.
+     *
+     * @param diskSlots nombre de positions du fichier, puissance de 2
+     */
+    public static EvaluationCache open(Path file, int memoryCapacity, int diskSlots) throws IOException {
+        return new EvaluationCache(memoryCapacity, MappedEvaluationFile.open(file, diskSlots));
+    }
+
+    /**
+     * Retourne le meilleur coup connu pour une profondeur au moins égale à {@code depth}, ou null.
+     */
+    public String getBestMove(long key, int depth) {
+        key = nonZero(key);
+        synchronized (memory) {
+            Entry entry = memory.get(key);
+            if (entry != null && entry.bestMove != null && entry.bestMoveDepth >= depth) {
+                return entry.bestMove;
+            }
+        }
+        if (disk == null) {
+            return null;
+        }
+        String move = disk.getBestMove(key, depth);
+        if (move != null) {
+            int storedDepth = disk.getBestMoveDepth(key);
+            synchronized (memory) {
+                memory.computeIfAbsent(key, k -> new Entry()).setBestMove(storedDepth, move);
+            }
+        }
+        return move;
+    }
+
+    /**
+     * Retourne l'évaluation connue pour une profondeur au moins égale à {@code depth}, ou null.
+     */
+    public Double getEvaluation(long key, int depth) {
+        key = nonZero(key);
+        synchronized (memory) {
+            Entry entry = memory.get(key);
+            if (entry != null && entry.scoreDepth > 0 && entry.scoreDepth >= depth) {
+                return entry.score;
+            }
+        }
+        if (disk == null) {
+            return null;
+        }
+        Double score = disk.getEvaluation(key, depth);
+        if (score != null) {
+            int storedDepth = disk.getEvaluationDepth(key);
+            synchronized (memory) {
+                memory.computeIfAbsent(key, k -> new Entry()).setScore(storedDepth, score);
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Enregistre un meilleur coup ; un coup déjà connu à une profondeur supérieure est conservé.
+     */
+    public void putBestMove(long key, int depth, String move) {
+        key = nonZero(key);
+        synchronized (memory) {
+            memory.computeIfAbsent(key, k -> new Entry()).setBestMove(depth, move);
+        }
+        if (disk != null) {
+            disk.putBestMove(key, depth, move);
+        }
+    }
+
+    /**
+     * Enregistre une évaluation ; une évaluation déjà connue à une profondeur supérieure est
+     * conservée.
+     */
+    public void putEvaluation(long key, int depth, double score) {
+        key = nonZero(key);
+        synchronized (memory) {
+            memory.computeIfAbsent(key, k -> new Entry()).setScore(depth, score);
+        }
+        if (disk != null) {
+            disk.putEvaluation(key, depth, score);
+        }
+    }
+
+    /**
+     * Nombre de positions en mémoire.
+     */
+    public int getMemorySize() {
+        synchronized (memory) {
+            return memory.size();
+        }
+    }
+
+    /**
+     * Écrit le niveau disque et ferme son fichier.
+     */
+    @Override
+    public void close() throws IOException {
+        if (disk != null) {
+            disk.close();
+        }
+    }
+
+    // La clé 0 marque une case vide du fichier
+    private static long nonZero(long key) {
+        return key == 0 ? 1 : key;
+    }
+
+    private static final class Entry {
+        private double score;
+        // 0 si aucune évaluation
+        private int scoreDepth;
+        private int bestMoveDepth;
+        private String bestMove;
+
+        private void setScore(int depth, double score) {
+            if (scoreDepth == 0 || depth >= scoreDepth) {
+                this.scoreDepth = depth;
+                this.score = score;
+            }
+        }
+
+        private void setBestMove(int depth, String move) {
+            if (bestMove == null || depth >= bestMoveDepth) {
+                this.bestMoveDepth = depth;
+                this.bestMove = move;
+            }
+        }
+    }
+}
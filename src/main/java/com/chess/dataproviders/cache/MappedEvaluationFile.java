@@ -0,0 +1,264 @@
+package com.chess.dataproviders.cache;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Niveau disque du cache d'évaluations : table de hachage de taille fixe dans un fichier
+ * projeté en mémoire, conservée d'une exécution à l'autre.
+ * <p>
+ * Chaque position occupe une case de {@value #SLOT_SIZE} octets, cherchée parmi les
+ * {@value #BUCKET_SIZE} cases consécutives de son seau. Un seau plein remplace l'entrée la moins
+ * profonde (meilleur coup ou évaluation), comme une table de transposition. Une somme de
+ * contrôle écarte les cases à moitié écrites (arrêt brutal).
+ * <p>
+ * Disposition d'une case : clé (8 octets, 0 si vide), score (8), réservé (1),
+ * profondeur du meilleur coup (1, 0 si absent), meilleur coup en UCI (5), profondeur du
+ * score (1, 0 si absent), réservé (2), somme de contrôle (4), réservé (2).
+ */
+final class MappedEvaluationFile implements AutoCloseable {
+    static final int SLOT_SIZE = 32;
+    static final int BUCKET_SIZE = 4;
+    // Au-delà, le fichier (en-tête compris) dépasse la taille maximale d'une projection
+    static final int MAX_SLOTS = 1 << 25;
+
+    private static final long MAGIC = 0x4348455353455632L; // "CHESSEV2"
+    private static final int HEADER_SIZE = 16;
+    private static final int SCORE = 8;
+    private static final int DEPTH = 17;
+    private static final int MOVE = 18;
+    private static final int MOVE_LENGTH = 5;
+    private static final int SCORE_DEPTH = 23;
+    private static final int CHECKSUM = 26;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slotMask;
+
+    private MappedEvaluationFile(FileChannel channel, MappedByteBuffer buffer, int slots) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.slotMask = slots - 1;
+    }
+
+    /**
+     * Ouvre ou crée le fichier. Un fichier d'un autre format ou d'une autre taille est vidé.
+     *
+     * @param slots nombre de cases, puissance de 2
+     */
+    static MappedEvaluationFile open(Path file, int slots) throws IOException {
+        if (slots < BUCKET_SIZE || slots > MAX_SLOTS || Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("Nombre de cases invalide : " + slots);
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = HEADER_SIZE + (long) slots * SLOT_SIZE;
+            boolean reusable = channel.size() == size;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (!reusable || buffer.getLong(0) != MAGIC || buffer.getInt(8) != slots || buffer.getInt(12) != SLOT_SIZE) {
+                clear(buffer, size);
+                buffer.putLong(0, MAGIC);
+                buffer.putInt(8, slots);
+                buffer.putInt(12, SLOT_SIZE);
+            }
+            return new MappedEvaluationFile(channel, buffer, slots);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Retourne le meilleur coup enregistré pour une profondeur au moins égale à celle demandée,
+     * ou null.
+     */
+    synchronized String getBestMove(long key, int depth) {
+        int slot = find(key);
+        if (slot < 0 || moveDepthAt(slot) < Math.max(depth, 1)) {
+            return null;
+        }
+        byte[] move = new byte[MOVE_LENGTH];
+        buffer.get(offset(slot) + MOVE, move);
+        int length = 0;
+        while (length < MOVE_LENGTH && move[length] != 0) {
+            length++;
+        }
+        return new String(move, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Retourne la profondeur du meilleur coup enregistré, ou 0.
+     */
+    synchronized int getBestMoveDepth(long key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : moveDepthAt(slot);
+    }
+
+    /**
+     * Retourne l'évaluation enregistrée à une profondeur au moins égale à celle demandée,
+     * ou null.
+     */
+    synchronized Double getEvaluation(long key, int depth) {
+        int slot = find(key);
+        if (slot < 0 || scoreDepthAt(slot) < Math.max(depth, 1)) {
+            return null;
+        }
+        return buffer.getDouble(offset(slot) + SCORE);
+    }
+
+    /**
+     * Retourne la profondeur de l'évaluation enregistrée, ou 0.
+     */
+    synchronized int getEvaluationDepth(long key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : scoreDepthAt(slot);
+    }
+
+    /**
+     * Enregistre un meilleur coup, sauf si un coup plus profond est déjà connu.
+     */
+    synchronized void putBestMove(long key, int depth, String move) {
+        byte[] ascii = move.getBytes(StandardCharsets.US_ASCII);
+        if (ascii.length > MOVE_LENGTH) {
+            return;
+        }
+        int slot = slotFor(key);
+        if (key(slot) == key && moveDepthAt(slot) > depth) {
+            return;
+        }
+        int base = offset(slot);
+        buffer.put(base + DEPTH, (byte) Math.min(depth, 255));
+        for (int i = 0; i < MOVE_LENGTH; i++) {
+            buffer.put(base + MOVE + i, i < ascii.length ? ascii[i] : 0);
+        }
+        seal(slot, key);
+    }
+
+    /**
+     * Enregistre une évaluation, sauf si une évaluation plus profonde est déjà connue.
+     */
+    synchronized void putEvaluation(long key, int depth, double score) {
+        int slot = slotFor(key);
+        if (key(slot) == key && scoreDepthAt(slot) > depth) {
+            return;
+        }
+        int base = offset(slot);
+        buffer.putDouble(base + SCORE, score);
+        buffer.put(base + SCORE_DEPTH, (byte) Math.min(depth, 255));
+        seal(slot, key);
+    }
+
+    /**
+     * Écrit les modifications sur le disque et ferme le fichier.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * Retourne la case valide de la clé, ou -1.
+     */
+    private int find(long key) {
+        int first = index(key);
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            int slot = (first + i) & slotMask;
+            if (key(slot) == key && checksumAt(slot) == checksum(slot, key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Case où écrire la clé : la sienne, sinon une case vide ou invalide, sinon la moins
+     * profonde. Une case reprise pour une autre clé est remise à zéro.
+     */
+    private int slotFor(long key) {
+        int existing = find(key);
+        if (existing >= 0) {
+            return existing;
+        }
+        int first = index(key);
+        int victim = -1;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            int slot = (first + i) & slotMask;
+            long stored = key(slot);
+            if (stored == 0 || checksumAt(slot) != checksum(slot, stored)) {
+                victim = slot;
+                break;
+            }
+            if (victim < 0 || depthAt(slot) < depthAt(victim)) {
+                victim = slot;
+            }
+        }
+        int base = offset(victim);
+        for (int i = 0; i < SLOT_SIZE; i++) {
+            buffer.put(base + i, (byte) 0);
+        }
+        return victim;
+    }
+
+    private void seal(int slot, long key) {
+        int base = offset(slot);
+        buffer.putLong(base, key);
+        buffer.putInt(base + CHECKSUM, checksum(slot, key));
+    }
+
+    private int checksum(int slot, long key) {
+        int base = offset(slot);
+        long hash = key * 0x9E3779B97F4A7C15L;
+        for (int i = SCORE; i < CHECKSUM; i++) {
+            hash = (hash ^ buffer.get(base + i)) * 0x100000001B3L;
+        }
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private int index(long key) {
+        return (int) (key ^ (key >>> 32)) & slotMask;
+    }
+
+    private long key(int slot) {
+        return buffer.getLong(offset(slot));
+    }
+
+    private int moveDepthAt(int slot) {
+        return buffer.get(offset(slot) + DEPTH) & 0xFF;
+    }
+
+    private int scoreDepthAt(int slot) {
+        return buffer.get(offset(slot) + SCORE_DEPTH) & 0xFF;
+    }
+
+    // Profondeur retenue pour le remplacement : la plus grande des deux
+    private int depthAt(int slot) {
+        return Math.max(moveDepthAt(slot), scoreDepthAt(slot));
+    }
+
+    private int checksumAt(int slot) {
+        return buffer.getInt(offset(slot) + CHECKSUM);
+    }
+
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private static void clear(MappedByteBuffer buffer, long size) {
+        for (int i = 0; i < size; i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+}
@@ -65,6 +65,7 @@ public class FileGameRepository implements GameRepository {
 
             GameStateDTO dto = objectMapper.readValue(file, GameStateDTO.class);
             GameState gameState = dto.toGameState();
+            gameState.setGameId(gameId);
             logger.info("Partie {} chargée", gameId);
             return Optional.of(gameState);
         } catch (IOException e) {
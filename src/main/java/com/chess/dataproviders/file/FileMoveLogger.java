@@ -58,20 +58,9 @@ public class FileMoveLogger implements MoveLogger {
 
     @Override
     public List<String> getMoveHistory(String gameId) {
-        try {
-            Path logFile = getLogFile(gameId);
-            if (!Files.exists(logFile)) {
-                return new ArrayList<>();
-            }
-
-            return Files.readAllLines(logFile).stream()
-                    .filter(line -> !line.trim().isEmpty())
-                    .map(this::extractMoveFromLog)
-                    .collect(Collectors.toList());
-        } catch (IOException e) {
-            logger.error("Erreur lors de la lecture de l'historique", e);
-            return new ArrayList<>();
-        }
+        return readMoveEntries(gameId).stream()
+                .map(this::coordinatesOf)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -89,7 +78,7 @@ public class FileMoveLogger implements MoveLogger {
 
     @Override
     public String exportToPGN(String gameId, String whitePlayer, String blackPlayer) {
-        List<String> moves = getMoveHistory(gameId);
+        List<String> moves = readMoveEntries(gameId);
 
         StringBuilder pgn = new StringBuilder();
         pgn.append("[Event \"Chess Game\"]\n");
@@ -102,7 +91,7 @@ public class FileMoveLogger implements MoveLogger {
             if (i % 2 == 0) {
                 pgn.append((i / 2 + 1)).append(". ");
             }
-            pgn.append(moves.get(i)).append(" ");
+            pgn.append(sanOf(moves.get(i))).append(" ");
         }
 
         return pgn.toString();
@@ -130,14 +119,53 @@ public class FileMoveLogger implements MoveLogger {
     }
 
     private String formatLogEntry(Move move, int moveNumber) {
+        String notation = move.getSan() != null
+                ? move.toAlgebraic() + " " + move.getSan()
+                : move.toAlgebraic();
         return String.format("[%s] Move %d: %s%n",
                 LocalDateTime.now().format(DATE_FORMATTER),
                 moveNumber,
-                move.toAlgebraic());
+                notation);
+    }
+
+    /**
+     * Lit les entrées de coups du journal (les événements sont ignorés).
+     */
+    private List<String> readMoveEntries(String gameId) {
+        try {
+            Path logFile = getLogFile(gameId);
+            if (!Files.exists(logFile)) {
+                return new ArrayList<>();
+            }
+
+            return Files.readAllLines(logFile).stream()
+                    .filter(line -> !line.trim().isEmpty() && !line.contains("] EVENT: "))
+                    .map(this::extractEntryFromLog)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.error("Erreur lors de la lecture de l'historique", e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Coup en coordonnées d'une entrée "e2e4 e4".
+     */
+    private String coordinatesOf(String entry) {
+        int space = entry.indexOf(' ');
+        return space < 0 ? entry : entry.substring(0, space);
+    }
+
+    /**
+     * Coup en SAN d'une entrée ; les coups journalisés sans SAN restent en coordonnées.
+     */
+    private String sanOf(String entry) {
+        int space = entry.indexOf(' ');
+        return space < 0 ? entry : entry.substring(space + 1);
     }
 
-    private String extractMoveFromLog(String logLine) {
-        // Format: [timestamp] Move N: move
+    private String extractEntryFromLog(String logLine) {
+        // Format: [timestamp] Move N: move [san]
         int lastColon = logLine.lastIndexOf(':');
         if (lastColon != -1 && lastColon < logLine.length() - 1) {
             return logLine.substring(lastColon + 1).trim();
@@ -0,0 +1,145 @@
+package com.chess.dataproviders.stockfish;
+
+/**
+ * Suit les lignes {@code info} d'une recherche UCI en cours et décide quand l'arrêter.
+ * <p>
+ * La recherche est arrêtée dès que l'une des conditions est remplie :
+ * <ul>
+ *   <li>stabilité (si activée) : à partir de {@link #MIN_STABLE_DEPTH}, le premier coup de la
+ *   variante principale est resté le même et le score a varié de moins de
+ *   {@link #STABLE_SCORE_MARGIN} centipions sur {@link #STABLE_DEPTHS} profondeurs ;</li>
+ *   <li>budget de temps épuisé (le moteur l'applique aussi via {@code movetime}) ;</li>
+ *   <li>limite de nœuds atteinte.</li>
+ * </ul>
+ * Les scores de mat sont convertis en centipions très élevés ({@link #MATE_SCORE} moins la
+ * distance au mat) ; les bornes ({@code lowerbound}, {@code upperbound}) sont ignorées.
+ */
+final class SearchMonitor {
+    static final int MIN_STABLE_DEPTH = 10;
+    static final int STABLE_DEPTHS = 3;
+    static final double STABLE_SCORE_MARGIN = 20;
+    static final double MATE_SCORE = 100_000;
+    static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final boolean stopOnStability;
+    private final long deadlineNanos;
+    private final long maxNodes;
+
+    private int depth;
+    private String bestMove;
+    private double score;
+    private boolean hasScore;
+    private long nodes;
+    private int stableDepths;
+
+    /**
+     * @param stopOnStability arrêter la recherche quand coup et score sont stables
+     * @param deadlineNanos instant limite ({@link System#nanoTime()}), ou {@link #NO_DEADLINE}
+     * @param maxNodes nombre maximal de nœuds, ou 0 sans limite
+     */
+    SearchMonitor(boolean stopOnStability, long deadlineNanos, long maxNodes) {
+        this.stopOnStability = stopOnStability;
+        this.deadlineNanos = deadlineNanos;
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Prend en compte une ligne du moteur.
+     *
+     * @return true si la recherche doit être arrêtée
+     */
+    boolean onLine(String line, long nowNanos) {
+        if (line.startsWith("info ")) {
+            onInfo(line.split(" "));
+        }
+        return (deadlineNanos != NO_DEADLINE && nowNanos - deadlineNanos >= 0)
+                || (maxNodes > 0 && nodes >= maxNodes)
+                || (stopOnStability && stableDepths >= STABLE_DEPTHS);
+    }
+
+    private void onInfo(String[] tokens) {
+        int lineDepth = -1;
+        String pvMove = null;
+        double lineScore = 0;
+        boolean exactScore = false;
+
+        for (int i = 1; i < tokens.length - 1; i++) {
+            switch (tokens[i]) {
+                case "depth" -> lineDepth = Integer.parseInt(tokens[++i]);
+                case "nodes" -> nodes = Long.parseLong(tokens[++i]);
+                case "cp" -> {
+                    lineScore = Double.parseDouble(tokens[++i]);
+                    exactScore = true;
+                }
+                case "mate" -> {
+                    int mateIn = Integer.parseInt(tokens[++i]);
+                    lineScore = mateIn > 0 ? MATE_SCORE - mateIn : -MATE_SCORE - mateIn;
+                    exactScore = true;
+                }
+                case "lowerbound", "upperbound" -> exactScore = false;
+                case "pv" -> {
+                    pvMove = tokens[i + 1];
+                    i = tokens.length;
+                }
+                default -> {
+                }
+            }
+        }
+
+        // Seules les variantes principales à score exact font progresser la recherche
+        if (lineDepth < 0 || pvMove == null || !exactScore) {
+            return;
+        }
+        if (lineDepth > depth && hasScore && pvMove.equals(bestMove)
+                && Math.abs(lineScore - score) < STABLE_SCORE_MARGIN) {
+            stableDepths += lineDepth >= MIN_STABLE_DEPTH ? 1 : 0;
+        } else if (lineDepth > depth || !pvMove.equals(bestMove)) {
+            stableDepths = 0;
+        }
+        depth = Math.max(depth, lineDepth);
+        bestMove = pvMove;
+        score = lineScore;
+        hasScore = true;
+    }
+
+    /**
+     * Extrait le coup d'une ligne {@code bestmove}, ou null si le moteur n'en a pas
+     * ({@code bestmove (none)}).
+     */
+    static String parseBestMove(String line) {
+        String[] parts = line.split(" ");
+        if (parts.length < 2 || parts[1].equals("(none)")) {
+            return null;
+        }
+        return parts[1];
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Premier coup de la dernière variante principale, ou null.
+     */
+    String getBestMove() {
+        return bestMove;
+    }
+
+    /**
+     * Dernier score exact, en centipions du point de vue du camp au trait.
+     */
+    double getScore() {
+        return score;
+    }
+
+    /**
+     * Vérifie si une variante principale à score exact a été reçue.
+     */
+    boolean hasScore() {
+        return hasScore;
+    }
+
+    long getNodes() {
+        return nodes;
+    }
+}
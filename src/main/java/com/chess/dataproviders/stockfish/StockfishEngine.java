@@ -1,37 +1,74 @@
 package com.chess.dataproviders.stockfish;
 
+import com.chess.core.entities.game.EnginePosition;
+import com.chess.core.entities.game.EvaluationResult;
+import com.chess.core.entities.game.SearchResult;
 import com.chess.core.ports.ChessEngine;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Implémentation du moteur Stockfish.
  * Utilise la bibliothèque chess-stockfish.
+ * <p>
+ * Les requêtes sont exécutées une à une sur un thread dédié, le processus ne traitant qu'une
+ * recherche à la fois ; les méthodes bloquantes attendent simplement leur tour. Annuler le
+ * {@link CompletableFuture} d'une recherche en cours, ou le laisser expirer, envoie
+ * {@code stop} au moteur ; une recherche annulée avant d'avoir commencé n'est jamais lancée.
  */
 public class StockfishEngine implements ChessEngine {
-    private StockfishProcess stockfish;
-    private int skillLevel;
-    private boolean isReady;
+    private final Supplier<StockfishProcess> processFactory;
+    private volatile StockfishProcess stockfish;
+    private volatile int skillLevel;
+    private volatile boolean isReady;
+
+    private final ExecutorService searchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stockfish-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object searchLock = new Object();
+    private CompletableFuture<?> activeSearch;
 
     public StockfishEngine() {
+        this(StockfishProcess::new);
+    }
+
+    /**
+     * Moteur dont les processus sont créés par la fabrique donnée (autre binaire UCI, simulateur).
+     */
+    public StockfishEngine(Supplier<StockfishProcess> processFactory) {
+        this.processFactory = processFactory;
         this.skillLevel = 20;
         this.isReady = false;
     }
 
     @Override
-    public void start() {
+    public synchronized void start() {
         if (stockfish == null) {
-            stockfish = new StockfishProcess();
-            stockfish.initialize();
-            setSkillLevel(skillLevel);
+            StockfishProcess process = processFactory.get();
+            process.initialize();
+            process.setSkillLevel(skillLevel);
+            stockfish = process;
             isReady = true;
         }
     }
 
     @Override
-    public void stop() {
+    public synchronized void stop() {
         if (stockfish != null) {
+            synchronized (searchLock) {
+                if (activeSearch != null) {
+                    activeSearch.cancel(true);
+                }
+            }
             stockfish.shutdown();
             stockfish = null;
             isReady = false;
@@ -40,14 +77,62 @@ public class StockfishEngine implements ChessEngine {
 
     @Override
     public String getBestMove(String fen, int maxDepth, long maxTimeMs) {
-        ensureStarted();
-        return stockfish.getBestMove(fen, maxDepth, maxTimeMs);
+        return await(submit(stopRequested -> stockfish.getBestMove(fen, maxDepth, maxTimeMs)));
+    }
+
+    @Override
+    public String getBestMove(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return await(getBestMoveAsync(position, maxDepth, maxTimeMs));
+    }
+
+    @Override
+    public CompletableFuture<String> getBestMoveAsync(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return submit(stopRequested -> stockfish.getBestMove(position, maxDepth, maxTimeMs, stopRequested));
+    }
+
+    @Override
+    public SearchResult search(String fen, int maxDepth, long maxTimeMs) {
+        return await(submit(stopRequested -> stockfish.search(fen, maxDepth, maxTimeMs)));
+    }
+
+    @Override
+    public SearchResult search(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return await(searchAsync(position, maxDepth, maxTimeMs));
+    }
+
+    @Override
+    public CompletableFuture<SearchResult> searchAsync(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return submit(stopRequested -> stockfish.search(position, maxDepth, maxTimeMs, stopRequested));
     }
 
     @Override
     public double evaluatePosition(String fen) {
-        ensureStarted();
-        return stockfish.evaluatePosition(fen);
+        return evaluate(fen).getScore();
+    }
+
+    @Override
+    public double evaluatePosition(EnginePosition position) {
+        return evaluate(position).getScore();
+    }
+
+    @Override
+    public CompletableFuture<Double> evaluatePositionAsync(EnginePosition position) {
+        return submit(stopRequested -> stockfish.evaluatePosition(position, stopRequested));
+    }
+
+    @Override
+    public EvaluationResult evaluate(String fen) {
+        return await(submit(stopRequested -> stockfish.evaluate(fen)));
+    }
+
+    @Override
+    public EvaluationResult evaluate(EnginePosition position) {
+        return await(evaluateAsync(position));
+    }
+
+    @Override
+    public CompletableFuture<EvaluationResult> evaluateAsync(EnginePosition position) {
+        return submit(stopRequested -> stockfish.evaluate(position, stopRequested));
     }
 
     @Override
@@ -60,7 +145,13 @@ public class StockfishEngine implements ChessEngine {
     public void setSkillLevel(int level) {
         this.skillLevel = Math.max(1, Math.min(20, level));
         if (stockfish != null) {
-            stockfish.setSkillLevel(this.skillLevel);
+            // Appliqué entre deux recherches, jamais pendant l'une d'elles
+            searchExecutor.execute(() -> {
+                StockfishProcess process = stockfish;
+                if (process != null) {
+                    process.setSkillLevel(skillLevel);
+                }
+            });
         }
     }
 
@@ -74,9 +165,80 @@ public class StockfishEngine implements ChessEngine {
         return isReady && stockfish != null;
     }
 
+    /**
+     * Vérifie si le processus a été démarré puis s'est arrêté sans {@link #stop()}.
+     */
+    boolean hasDied() {
+        StockfishProcess process = stockfish;
+        return process != null && !process.isAlive();
+    }
+
+    /**
+     * Arrête le moteur et libère son thread ; il ne peut plus servir ensuite.
+     */
+    void close() {
+        stop();
+        searchExecutor.shutdown();
+    }
+
     private void ensureStarted() {
         if (!isReady()) {
             start();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Place une recherche dans la file du moteur.
+     *
+     * @param search recherche à exécuter, recevant l'indicateur d'arrêt demandé
+     */
+    private <T> CompletableFuture<T> submit(Function<BooleanSupplier, T> search) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // Annulation ou délai dépassé : arrêter la recherche si elle est en cours
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                stopIfActive(result);
+            }
+        });
+        searchExecutor.execute(() -> {
+            synchronized (searchLock) {
+                if (result.isDone()) {
+                    return;
+                }
+                activeSearch = result;
+            }
+            try {
+                ensureStarted();
+                result.complete(search.apply(result::isDone));
+            } catch (Throwable e) {
+                // Y compris les Error : un futur jamais complété bloquerait les appelants
+                result.completeExceptionally(e);
+            } finally {
+                synchronized (searchLock) {
+                    activeSearch = null;
+                }
+            }
+        });
+        return result;
+    }
+
+    private void stopIfActive(CompletableFuture<?> search) {
+        synchronized (searchLock) {
+            StockfishProcess process = stockfish;
+            if (activeSearch == search && process != null) {
+                process.stopSearch();
+            }
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
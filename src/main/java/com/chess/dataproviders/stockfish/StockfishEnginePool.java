@@ -0,0 +1,504 @@
+package com.chess.dataproviders.stockfish;
+
+import com.chess.core.entities.game.EnginePosition;
+import com.chess.core.entities.game.EvaluationResult;
+import com.chess.core.entities.game.SearchResult;
+import com.chess.core.ports.ChessEngine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Pool de moteurs UCI, chacun avec son propre processus, partagé par l'IA, l'analyse et les
+ * parties simulées.
+ * <p>
+ * Un moteur est prêté ({@link #lease(String)}) à un seul appelant à la fois puis rendu
+ * ({@link Lease#close()}) : deux parties n'entrelacent jamais leurs commandes sur le même
+ * processus. Chaque partie est rattachée au dernier moteur qui l'a servie et le retrouve tant
+ * qu'il est libre, avec sa table de transposition et sa session UCI ; sinon elle prend le
+ * moteur libre inutilisé depuis le plus longtemps. Un moteur dont le processus est mort est
+ * remplacé avant d'être prêté de nouveau.
+ * <p>
+ * Le pool implémente lui-même {@link ChessEngine} : chaque requête emprunte un moteur pour sa
+ * durée, en suivant l'identifiant de partie de l'{@link EnginePosition}. Les processus ne sont
+ * lancés qu'à leur première requête.
+ */
+public class StockfishEnginePool implements ChessEngine {
+    // Parties dont on retient le moteur
+    private static final int MAX_AFFINITIES = 4096;
+
+    private final Supplier<StockfishEngine> engineFactory;
+    private final List<Slot> slots;
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private final Map<String, Slot> affinities = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Slot> eldest) {
+            return size() > MAX_AFFINITIES;
+        }
+    };
+    private final Object lock = new Object();
+
+    private volatile int skillLevel = 20;
+    private volatile boolean ready;
+    private int replacements;
+    private long releaseCount;
+
+    /**
+     * Pool de {@link #defaultSize()} processus Stockfish.
+     */
+    public StockfishEnginePool() {
+        this(defaultSize(), StockfishEngine::new);
+    }
+
+    /**
+     * @param size nombre de moteurs
+     * @param engineFactory création d'un moteur (non démarré), y compris pour remplacer un moteur mort
+     */
+    public StockfishEnginePool(int size, Supplier<StockfishEngine> engineFactory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Le pool doit contenir au moins un moteur : " + size);
+        }
+        this.engineFactory = engineFactory;
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new Slot(engineFactory.get()));
+        }
+    }
+
+    /**
+     * Taille par défaut : un moteur pour deux processeurs, chaque recherche occupant un cœur.
+     */
+    public static int defaultSize() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    /**
+     * Emprunte un moteur, en attendant qu'un moteur se libère si nécessaire.
+     *
+     * @param gameId partie servie, pour retrouver son moteur ; null pour n'importe lequel
+     */
+    public Lease lease(String gameId) throws InterruptedException {
+        CompletableFuture<Lease> lease = leaseAsync(gameId);
+        try {
+            return lease.get();
+        } catch (InterruptedException e) {
+            // Si le moteur a été accordé entre-temps, le rendre
+            if (!lease.cancel(false)) {
+                lease.join().close();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Emprunte un moteur sans bloquer : le résultat est complété dès qu'un moteur est libre.
+     * L'annuler retire la demande de la file d'attente.
+     *
+     * @param gameId partie servie, pour retrouver son moteur ; null pour n'importe lequel
+     */
+    public CompletableFuture<Lease> leaseAsync(String gameId) {
+        CompletableFuture<Lease> future = new CompletableFuture<>();
+        Slot slot;
+        synchronized (lock) {
+            slot = pickFreeSlot(gameId);
+            if (slot == null) {
+                waiters.add(new Waiter(gameId, future));
+                return future;
+            }
+            take(slot, gameId);
+        }
+        grant(slot, future);
+        return future;
+    }
+
+    /**
+     * Remplace les moteurs libres dont le processus est mort.
+     *
+     * @return le nombre de moteurs remplacés
+     */
+    public int checkHealth() {
+        // Les moteurs morts sont réservés sous le verrou, puis remplacés hors du verrou
+        List<Slot> dead = new ArrayList<>();
+        synchronized (lock) {
+            for (Slot slot : slots) {
+                if (!slot.leased && slot.engine.hasDied()) {
+                    slot.leased = true;
+                    dead.add(slot);
+                }
+            }
+        }
+        int replaced = 0;
+        for (Slot slot : dead) {
+            try {
+                replaced += replaceIfDead(slot) ? 1 : 0;
+            } finally {
+                release(slot);
+            }
+        }
+        return replaced;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Nombre de moteurs libres.
+     */
+    public int getAvailableCount() {
+        synchronized (lock) {
+            int available = 0;
+            for (Slot slot : slots) {
+                available += slot.leased ? 0 : 1;
+            }
+            return available;
+        }
+    }
+
+    /**
+     * Nombre de moteurs remplacés depuis la création du pool.
+     */
+    public int getReplacementCount() {
+        synchronized (lock) {
+            return replacements;
+        }
+    }
+
+    @Override
+    public void start() {
+        ready = true;
+    }
+
+    @Override
+    public void stop() {
+        ready = false;
+        synchronized (lock) {
+            for (Slot slot : slots) {
+                slot.engine.stop();
+            }
+        }
+    }
+
+    @Override
+    public String getBestMove(String fen, int maxDepth, long maxTimeMs) {
+        try (Lease lease = leaseUninterruptibly(null)) {
+            return lease.getEngine().getBestMove(fen, maxDepth, maxTimeMs);
+        }
+    }
+
+    @Override
+    public String getBestMove(EnginePosition position, int maxDepth, long maxTimeMs) {
+        try (Lease lease = leaseUninterruptibly(position.getGameId())) {
+            return lease.getEngine().getBestMove(position, maxDepth, maxTimeMs);
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> getBestMoveAsync(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return withLease(position.getGameId(), engine -> engine.getBestMoveAsync(position, maxDepth, maxTimeMs));
+    }
+
+    @Override
+    public SearchResult search(String fen, int maxDepth, long maxTimeMs) {
+        try (Lease lease = leaseUninterruptibly(null)) {
+            return lease.getEngine().search(fen, maxDepth, maxTimeMs);
+        }
+    }
+
+    @Override
+    public SearchResult search(EnginePosition position, int maxDepth, long maxTimeMs) {
+        try (Lease lease = leaseUninterruptibly(position.getGameId())) {
+            return lease.getEngine().search(position, maxDepth, maxTimeMs);
+        }
+    }
+
+    @Override
+    public CompletableFuture<SearchResult> searchAsync(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return withLease(position.getGameId(), engine -> engine.searchAsync(position, maxDepth, maxTimeMs));
+    }
+
+    @Override
+    public double evaluatePosition(String fen) {
+        try (Lease lease = leaseUninterruptibly(null)) {
+            return lease.getEngine().evaluatePosition(fen);
+        }
+    }
+
+    @Override
+    public double evaluatePosition(EnginePosition position) {
+        try (Lease lease = leaseUninterruptibly(position.getGameId())) {
+            return lease.getEngine().evaluatePosition(position);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Double> evaluatePositionAsync(EnginePosition position) {
+        return withLease(position.getGameId(), engine -> engine.evaluatePositionAsync(position));
+    }
+
+    @Override
+    public EvaluationResult evaluate(String fen) {
+        try (Lease lease = leaseUninterruptibly(null)) {
+            return lease.getEngine().evaluate(fen);
+        }
+    }
+
+    @Override
+    public EvaluationResult evaluate(EnginePosition position) {
+        try (Lease lease = leaseUninterruptibly(position.getGameId())) {
+            return lease.getEngine().evaluate(position);
+        }
+    }
+
+    @Override
+    public CompletableFuture<EvaluationResult> evaluateAsync(EnginePosition position) {
+        return withLease(position.getGameId(), engine -> engine.evaluateAsync(position));
+    }
+
+    @Override
+    public List<String> getLegalMoves(String fen) {
+        try (Lease lease = leaseUninterruptibly(null)) {
+            return lease.getEngine().getLegalMoves(fen);
+        }
+    }
+
+    @Override
+    public void setSkillLevel(int level) {
+        this.skillLevel = Math.max(1, Math.min(20, level));
+        synchronized (lock) {
+            for (Slot slot : slots) {
+                slot.engine.setSkillLevel(skillLevel);
+            }
+        }
+    }
+
+    @Override
+    public String getEngineInfo() {
+        return slots.get(0).engine.getEngineInfo() + " (" + slots.size() + " processus)";
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Moteur libre pour une partie : le sien s'il est libre, sinon le moins récemment utilisé.
+     */
+    private Slot pickFreeSlot(String gameId) {
+        Slot preferred = gameId == null ? null : affinities.get(gameId);
+        if (preferred != null && !preferred.leased) {
+            return preferred;
+        }
+        Slot best = null;
+        for (Slot slot : slots) {
+            if (!slot.leased && (best == null || slot.lastReleased < best.lastReleased)) {
+                best = slot;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Réserve un moteur libre pour une partie. Appelé sous le verrou.
+     */
+    private void take(Slot slot, String gameId) {
+        slot.leased = true;
+        if (gameId != null) {
+            affinities.put(gameId, slot);
+        }
+    }
+
+    /**
+     * Remet à une demande le moteur qui lui a été réservé, après l'avoir remplacé s'il est mort.
+     * Appelé hors du verrou : la suite de l'appelant peut s'exécuter ici.
+     */
+    private void grant(Slot slot, CompletableFuture<Lease> future) {
+        Lease lease;
+        try {
+            replaceIfDead(slot);
+            lease = new Lease(slot, slot.engine);
+        } catch (RuntimeException e) {
+            release(slot);
+            future.completeExceptionally(e);
+            return;
+        }
+        if (!future.complete(lease)) {
+            lease.close();
+        }
+    }
+
+    private void release(Slot slot) {
+        Waiter waiter;
+        synchronized (lock) {
+            slot.leased = false;
+            slot.lastReleased = ++releaseCount;
+            waiter = pollWaiter(slot);
+            if (waiter == null) {
+                return;
+            }
+            take(slot, waiter.gameId);
+        }
+        grant(slot, waiter.future);
+    }
+
+    /**
+     * Demande en attente à servir avec ce moteur : en priorité une partie qui y est rattachée,
+     * sinon la plus ancienne. Les demandes annulées sont retirées au passage.
+     */
+    private Waiter pollWaiter(Slot slot) {
+        Waiter first = null;
+        for (Iterator<Waiter> it = waiters.iterator(); it.hasNext(); ) {
+            Waiter waiter = it.next();
+            if (waiter.future.isDone()) {
+                it.remove();
+            } else if (waiter.gameId != null && affinities.get(waiter.gameId) == slot) {
+                it.remove();
+                return waiter;
+            } else if (first == null) {
+                first = waiter;
+            }
+        }
+        if (first != null) {
+            waiters.remove(first);
+        }
+        return first;
+    }
+
+    /**
+     * Remplace le moteur d'un emplacement réservé par l'appelant si son processus est mort.
+     * L'arrêt de l'ancien processus et la création du nouveau moteur se font hors du verrou ;
+     * seul l'échange y est fait.
+     */
+    private boolean replaceIfDead(Slot slot) {
+        StockfishEngine engine;
+        synchronized (lock) {
+            engine = slot.engine;
+        }
+        if (!engine.hasDied()) {
+            return false;
+        }
+        engine.close();
+        StockfishEngine replacement = engineFactory.get();
+        synchronized (lock) {
+            replacement.setSkillLevel(skillLevel);
+            slot.engine = replacement;
+            replacements++;
+        }
+        return true;
+    }
+
+    private Lease leaseUninterruptibly(String gameId) {
+        try {
+            return lease(gameId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompu en attendant un moteur", e);
+        }
+    }
+
+    /**
+     * Exécute une requête asynchrone sur un moteur emprunté pour sa durée. Annuler le résultat
+     * retire la demande de la file, ou arrête la requête si elle a commencé.
+     */
+    private <T> CompletableFuture<T> withLease(String gameId, Function<ChessEngine, CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Lease> leasing = leaseAsync(gameId);
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                leasing.cancel(false);
+            }
+        });
+        leasing.thenAccept(lease -> {
+            if (result.isDone()) {
+                lease.close();
+                return;
+            }
+            CompletableFuture<T> request;
+            try {
+                request = call.apply(lease.getEngine());
+            } catch (RuntimeException e) {
+                lease.close();
+                result.completeExceptionally(e);
+                return;
+            }
+            request.whenComplete((value, error) -> {
+                lease.close();
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                }
+            });
+            result.whenComplete((value, error) -> {
+                if (error != null) {
+                    request.cancel(true);
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Emprunt d'un moteur, à rendre une seule fois par {@link #close()}.
+     */
+    public final class Lease implements AutoCloseable {
+        private final Slot slot;
+        private final StockfishEngine engine;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Lease(Slot slot, StockfishEngine engine) {
+            this.slot = slot;
+            this.engine = engine;
+        }
+
+        public ChessEngine getEngine() {
+            return engine;
+        }
+
+        /**
+         * Rend le moteur au pool. Sans effet s'il a déjà été rendu.
+         */
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(slot);
+            }
+        }
+    }
+
+    private static final class Slot {
+        private StockfishEngine engine;
+        private boolean leased;
+        // Ordre du dernier retour au pool, 0 si jamais utilisé
+        private long lastReleased;
+
+        private Slot(StockfishEngine engine) {
+            this.engine = engine;
+        }
+    }
+
+    private static final class Waiter {
+        private final String gameId;
+        private final CompletableFuture<Lease> future;
+
+        private Waiter(String gameId, CompletableFuture<Lease> future) {
+            this.gameId = gameId;
+            this.future = future;
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.chess.dataproviders.stockfish;
 
+import com.chess.core.entities.game.EnginePosition;
+import com.chess.core.entities.game.EvaluationResult;
+import com.chess.core.entities.game.SearchResult;
+import com.chess.core.ports.ChessEngine;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 /**
  * Gère la communication avec le processus Stockfish via UCI.
@@ -16,10 +21,37 @@ public class StockfishProcess {
     private Process process;
     private BufferedReader reader;
     private BufferedWriter writer;
+    private final UciSession session = new UciSession();
+    private final Object writeLock = new Object();
+    private final List<String> command;
 
     @Getter
     @Setter
     private boolean stabilisationProfondeur = true;
+    // Nombre maximal de nœuds par recherche de meilleur coup, 0 sans limite
+    @Getter
+    @Setter
+    private long maxNodes;
+    // Arrêt demandé par stopSearch() pendant la recherche en cours
+    private volatile boolean externalStop;
+
+    /**
+     * Processus Stockfish extrait des ressources.
+     */
+    public StockfishProcess() {
+        this(null);
+    }
+
+    /**
+     * Processus lancé par la commande donnée : moteur UCI installé sur la machine, ou
+     * simulateur pour les tests.
+     *
+     * @param command ligne de commande, ou null pour extraire Stockfish des ressources
+     */
+    public StockfishProcess(List<String> command) {
+        this.command = command;
+    }
+
     /**
      * Initialise le moteur Stockfish.
      * La bibliothèque io.github.guillaumcn:chess-stockfish gère automatiquement
@@ -27,41 +59,8 @@ public class StockfishProcess {
      */
     public void initialize() {
         try {
-            String os = System.getProperty("os.name").toLowerCase();
-            String stockfishPath;
-
-            if (os.contains("win")) {
-                stockfishPath = "stockfish-windows-x86-64-avx2.exe"; // Windows
-            } else if (os.contains("mac")) {
-                stockfishPath = "stockfish-macos-m1-apple-silicon"; // macOS
-            } else {
-                stockfishPath = "stockfish-ubuntu-x86-64-avx2"; // Linux/Ubuntu
-            }
-
-            // Copie depuis les ressources vers un répertoire temporaire
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(stockfishPath);
-            if (inputStream == null) {
-                throw new IOException("Fichier Stockfish non trouvé dans les ressources : " + stockfishPath);
-            }
-
-            File tempFile = File.createTempFile("stockfish-", ".exe");
-            tempFile.deleteOnExit();
-
-            try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-                byte[] buffer = new byte[1024];
-                int bytesRead;
-                while ((bytesRead = inputStream.read(buffer)) != -1) {
-                    fos.write(buffer, 0, bytesRead);
-                }
-            }
-
-            // Rendre le fichier exécutable (Linux/macOS)
-            if (!tempFile.setExecutable(true)) {
-                System.err.println("Impossible de rendre le fichier exécutable : " + tempFile.getAbsolutePath());
-            }
-
             // Lancement du processus
-            ProcessBuilder processBuilder = new ProcessBuilder(tempFile.getAbsolutePath());
+            ProcessBuilder processBuilder = new ProcessBuilder(command != null ? command : List.of(extractBinary()));
             processBuilder.redirectErrorStream(true);
             process = processBuilder.start();
 
@@ -74,63 +73,130 @@ public class StockfishProcess {
             waitForResponse("uciok");
             sendCommand("isready");
             waitForResponse("readyok");
+            session.reset();
         } catch (Exception e) {
             throw new RuntimeException("Erreur lors de l'initialisation de Stockfish", e);
         }
     }
 
+    /**
+     * Copie le binaire Stockfish de la plateforme depuis les ressources vers un fichier
+     * temporaire exécutable.
+     *
+     * @return le chemin du binaire
+     */
+    private String extractBinary() throws IOException {
+        String os = System.getProperty("os.name").toLowerCase();
+        String stockfishPath;
+
+        if (os.contains("win")) {
+            stockfishPath = "stockfish-windows-x86-64-avx2.exe"; // Windows
+        } else if (os.contains("mac")) {
+            stockfishPath = "stockfish-macos-m1-apple-silicon"; // macOS
+        } else {
+            stockfishPath = "stockfish-ubuntu-x86-64-avx2"; // Linux/Ubuntu
+        }
+
+        // Copie depuis les ressources vers un répertoire temporaire
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(stockfishPath);
+        if (inputStream == null) {
+            throw new IOException("Fichier Stockfish non trouvé dans les ressources : " + stockfishPath);
+        }
+
+        File tempFile = File.createTempFile("stockfish-", ".exe");
+        tempFile.deleteOnExit();
+
+        try (FileOutputStream fos = new FileOutputStream(tempFile)) {
+            byte[] buffer = new byte[1024];
+            int bytesRead;
+            while ((bytesRead = inputStream.read(buffer)) != -1) {
+                fos.write(buffer, 0, bytesRead);
+            }
+        }
+
+        // Rendre le fichier exécutable (Linux/macOS)
+        if (!tempFile.setExecutable(true)) {
+            System.err.println("Impossible de rendre le fichier exécutable : " + tempFile.getAbsolutePath());
+        }
+
+        return tempFile.getAbsolutePath();
+    }
+
     /**
      * Obtient le meilleur coup pour une position FEN.
      */
     public String getBestMove(String fen, int maxDepth, long maxTimeMs) {
+        return search(fen, maxDepth, maxTimeMs).getBestMove();
+    }
+
+    /**
+     * Obtient le meilleur coup pour une position d'une partie. Le moteur reste sur la partie
+     * d'une demande à l'autre : seuls les coups ajoutés changent la commande de position.
+     */
+    public String getBestMove(EnginePosition position, int maxDepth, long maxTimeMs) {
+        return getBestMove(position, maxDepth, maxTimeMs, () -> false);
+    }
+
+    /**
+     * Obtient le meilleur coup pour une position d'une partie ; la recherche est arrêtée
+     * ({@code stop}) dès que {@code stopRequested} devient vrai. Voir aussi {@link #stopSearch()}.
+     */
+    public String getBestMove(EnginePosition position, int maxDepth, long maxTimeMs, BooleanSupplier stopRequested) {
+        return search(position, maxDepth, maxTimeMs, stopRequested).getBestMove();
+    }
+
+    /**
+     * Cherche le meilleur coup d'une position FEN et indique la profondeur atteinte.
+     */
+    public SearchResult search(String fen, int maxDepth, long maxTimeMs) {
+        return search(null, fen, List.of(), maxDepth, maxTimeMs, () -> false);
+    }
+
+    /**
+     * Cherche le meilleur coup d'une position d'une partie et indique la profondeur atteinte.
+     * Le résultat est marqué interrompu si {@code stopRequested} ou {@link #stopSearch()} a
+     * arrêté la recherche.
+     */
+    public SearchResult search(EnginePosition position, int maxDepth, long maxTimeMs, BooleanSupplier stopRequested) {
+        return search(position.getGameId(), position.getStartFen(), position.getMoves(),
+                maxDepth, maxTimeMs, stopRequested);
+    }
+
+    private SearchResult search(String gameId, String startFen, List<String> moves, int maxDepth, long maxTimeMs,
+                                BooleanSupplier stopRequested) {
+        // Remis à zéro avant les commandes de session : un stopSearch() reçu pendant l'attente
+        // de "isready" reste pris en compte
+        externalStop = false;
         try {
             ensureStarted();
 
-            long minTimePerDepth = 5000;
-            long startTime = System.currentTimeMillis();
-            int depth = 2;
-            String bestMove = null;
-            double lastScore = Double.NaN;
-
-            while (depth <= maxDepth && System.currentTimeMillis() - startTime < maxTimeMs) {
-                long remainingTime = maxTimeMs - (System.currentTimeMillis() - startTime);
-                if (remainingTime <= 0) break;
-
-                long timePerDepth = Math.max(minTimePerDepth , remainingTime / (maxDepth - depth + 1));
-
-                sendCommand("position fen " + fen);
-                sendCommand("go depth " + depth + " movetime " + timePerDepth);
-
-                String line;
-                double score = 0;
-
-                while ((line = readLine()) != null) {
-                    if (line.startsWith("bestmove")) {
-                        String[] parts = line.split(" ");
-                        if (parts.length > 1) {
-                            bestMove = parts[1];
-                        }
-                        break;
-                    } else if (line.contains("score cp")) {
-                        String[] parts = line.split(" ");
-                        for (int i = 0; i < parts.length - 1; i++) {
-                            if (parts[i].equals("cp")) {
-                                score = Double.parseDouble(parts[i + 1]);
-                            }
-                        }
-                    }
-                }
+            // Une seule recherche : le moteur approfondit lui-même et ses lignes "info" permettent
+            // de l'arrêter plus tôt (coup et score stables, limite de nœuds)
+            long deadline = System.nanoTime() + maxTimeMs * 1_000_000L;
+            SearchMonitor monitor = new SearchMonitor(stabilisationProfondeur, deadline, maxNodes);
+            sendSessionCommands(gameId, startFen, moves);
+            sendCommand("go depth " + maxDepth + " movetime " + maxTimeMs);
 
-                // Stabilisation de profondeur
-                if (stabilisationProfondeur && !Double.isNaN(lastScore) && Math.abs(score - lastScore) < 20) {
+            String bestMove = null;
+            // Arrêt demandé avant "go" : le moteur l'a ignoré, le renvoyer maintenant
+            boolean stopSent = stopIfRequestedEarly();
+            boolean interrupted = false;
+            String line;
+            while ((line = readLine()) != null) {
+                if (line.startsWith("bestmove")) {
+                    bestMove = SearchMonitor.parseBestMove(line);
                     break;
                 }
-
-                lastScore = score;
-                depth++;
+                boolean limitReached = monitor.onLine(line, System.nanoTime());
+                boolean cancelled = stopRequested.getAsBoolean();
+                interrupted |= cancelled && !stopSent;
+                if ((limitReached || cancelled) && !stopSent) {
+                    sendCommand("stop");
+                    stopSent = true;
+                }
             }
 
-            return bestMove;
+            return SearchResult.of(bestMove, monitor.getDepth(), interrupted || externalStop);
         } catch (IOException e) {
             throw new RuntimeException("Erreur lors du calcul du meilleur coup", e);
         }
@@ -140,26 +206,74 @@ public class StockfishProcess {
      * Évalue une position (en centipawns).
      */
     public double evaluatePosition(String fen) {
+        return evaluate(fen).getScore();
+    }
+
+    /**
+     * Évalue une position d'une partie (en centipawns).
+     */
+    public double evaluatePosition(EnginePosition position) {
+        return evaluatePosition(position, () -> false);
+    }
+
+    /**
+     * Évalue une position d'une partie ; la recherche est arrêtée dès que {@code stopRequested}
+     * devient vrai.
+     */
+    public double evaluatePosition(EnginePosition position, BooleanSupplier stopRequested) {
+        return evaluate(position, stopRequested).getScore();
+    }
+
+    /**
+     * Évalue une position FEN et indique la profondeur atteinte.
+     */
+    public EvaluationResult evaluate(String fen) {
+        return evaluate(null, fen, List.of(), () -> false);
+    }
+
+    /**
+     * Évalue une position d'une partie et indique la profondeur atteinte. Le résultat est
+     * marqué interrompu si {@code stopRequested} ou {@link #stopSearch()} a arrêté la recherche.
+     *
+     * @throws RuntimeException si le moteur s'arrête avant de répondre ou ne donne aucun score
+     */
+    public EvaluationResult evaluate(EnginePosition position, BooleanSupplier stopRequested) {
+        return evaluate(position.getGameId(), position.getStartFen(), position.getMoves(), stopRequested);
+    }
+
+    private EvaluationResult evaluate(String gameId, String startFen, List<String> moves,
+                                      BooleanSupplier stopRequested) {
+        externalStop = false;
         try {
-            sendCommand("position fen " + fen);
-            sendCommand("go depth 15");
+            ensureStarted();
+            sendSessionCommands(gameId, startFen, moves);
+            sendCommand("go depth " + ChessEngine.EVALUATION_DEPTH);
 
+            SearchMonitor monitor = new SearchMonitor(false, SearchMonitor.NO_DEADLINE, 0);
+            boolean stopSent = stopIfRequestedEarly();
+            boolean interrupted = false;
+            boolean answered = false;
             String line;
-            double score = 0;
             while ((line = readLine()) != null) {
-                if (line.contains("score cp")) {
-                    String[] parts = line.split(" ");
-                    for (int i = 0; i < parts.length - 1; i++) {
-                        if (parts[i].equals("cp")) {
-                            score = Double.parseDouble(parts[i + 1]);
-                            break;
-                        }
-                    }
-                } else if (line.startsWith("bestmove")) {
+                if (line.startsWith("bestmove")) {
+                    answered = true;
                     break;
                 }
+                monitor.onLine(line, System.nanoTime());
+                if (!stopSent && stopRequested.getAsBoolean()) {
+                    sendCommand("stop");
+                    stopSent = true;
+                    interrupted = true;
+                }
+            }
+            // Un score par défaut passerait pour une vraie évaluation (et finirait en cache)
+            if (!answered) {
+                throw new EOFException("Le moteur s'est arrêté pendant l'évaluation");
+            }
+            if (!monitor.hasScore()) {
+                throw new IOException("Le moteur n'a donné aucun score");
             }
-            return score;
+            return EvaluationResult.of(monitor.getScore(), monitor.getDepth(), interrupted || externalStop);
         } catch (IOException e) {
             throw new RuntimeException("Erreur lors de l'évaluation", e);
         }
@@ -181,11 +295,42 @@ public class StockfishProcess {
     public void setSkillLevel(int level) {
         try {
             sendCommand("setoption name Skill Level value " + level);
+            session.optionChanged();
         } catch (IOException e) {
             throw new RuntimeException("Erreur lors de la configuration du niveau", e);
         }
     }
 
+    /**
+     * Demande l'arrêt immédiat de la recherche en cours ; le moteur répond alors par son
+     * meilleur coup provisoire. Peut être appelé depuis un autre thread que celui qui attend
+     * la réponse. Sans recherche en cours, la commande est ignorée par le moteur.
+     */
+    public void stopSearch() {
+        try {
+            if (writer != null) {
+                externalStop = true;
+                sendCommand("stop");
+            }
+        } catch (IOException e) {
+            // Processus déjà arrêté : plus rien à interrompre
+        }
+    }
+
+    /**
+     * Renvoie {@code stop} si {@link #stopSearch()} a été appelé avant le {@code go} de la
+     * recherche en cours.
+     *
+     * @return true si la commande a été envoyée
+     */
+    private boolean stopIfRequestedEarly() throws IOException {
+        if (!externalStop) {
+            return false;
+        }
+        sendCommand("stop");
+        return true;
+    }
+
     /**
      * Arrête le moteur Stockfish.
      */
@@ -201,8 +346,20 @@ public class StockfishProcess {
     }
 
     private void sendCommand(String command) throws IOException {
-        writer.write(command + "\n");
-        writer.flush();
+        // stop peut être envoyé par un autre thread pendant une recherche
+        synchronized (writeLock) {
+            writer.write(command + "\n");
+            writer.flush();
+        }
+    }
+
+    private void sendSessionCommands(String gameId, String startFen, List<String> moves) throws IOException {
+        for (String command : session.prepare(gameId, startFen, moves)) {
+            sendCommand(command);
+            if (command.equals("isready")) {
+                waitForResponse("readyok");
+            }
+        }
     }
 
     private String readLine() throws IOException {
@@ -218,6 +375,13 @@ public class StockfishProcess {
         }
     }
 
+    /**
+     * Vérifie si le processus a été lancé et tourne toujours.
+     */
+    public boolean isAlive() {
+        return process != null && process.isAlive();
+    }
+
     private void ensureStarted() {
         if (process == null || !process.isAlive()) {
             initialize();
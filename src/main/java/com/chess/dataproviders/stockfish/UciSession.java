@@ -0,0 +1,99 @@
+package com.chess.dataproviders.stockfish;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * État UCI d'un processus moteur : partie et position qu'il connaît déjà.
+ * <p>
+ * Calcule les seules commandes à envoyer avant un {@code go} :
+ * <ul>
+ *   <li>{@code ucinewgame} quand la demande ne prolonge pas la partie en cours (autre
+ *   identifiant, autre position de départ, ou coups qui ne complètent pas ceux déjà
+ *   envoyés) ;</li>
+ *   <li>{@code position startpos moves ...} (ou {@code position fen ... moves ...}) seulement
+ *   si la position a changé depuis la dernière demande ;</li>
+ *   <li>{@code isready} seulement après {@code ucinewgame} ou un changement d'option.</li>
+ * </ul>
+ * Une position sans partie (identifiant null) n'entraîne jamais de {@code ucinewgame}.
+ * Non thread-safe, comme le processus qu'elle accompagne.
+ */
+final class UciSession {
+    static final String START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private String gameId;
+    private String startFen;
+    private List<String> moves = List.of();
+    private boolean positionSent;
+    private boolean syncNeeded;
+
+    /**
+     * Retourne les commandes à envoyer pour placer le moteur sur la position demandée,
+     * et considère la position comme envoyée.
+     *
+     * @param gameId identifiant de la partie, ou null pour une position isolée
+     * @param startFen position de départ de la partie
+     * @param moves coups joués depuis la position de départ (notation UCI)
+     */
+    List<String> prepare(String gameId, String startFen, List<String> moves) {
+        List<String> commands = new ArrayList<>(3);
+        boolean sameLine = positionSent && Objects.equals(this.gameId, gameId) && this.startFen.equals(startFen);
+
+        if (gameId != null && !(sameLine && extendsSentMoves(moves))) {
+            commands.add("ucinewgame");
+            syncNeeded = true;
+        }
+        if (!sameLine || !this.moves.equals(moves)) {
+            commands.add(positionCommand(startFen, moves));
+        }
+        if (syncNeeded) {
+            commands.add("isready");
+            syncNeeded = false;
+        }
+
+        this.gameId = gameId;
+        this.startFen = startFen;
+        this.moves = List.copyOf(moves);
+        this.positionSent = true;
+        return commands;
+    }
+
+    /**
+     * Signale un changement d'option : la prochaine demande attendra {@code readyok}.
+     */
+    void optionChanged() {
+        syncNeeded = true;
+    }
+
+    /**
+     * Oublie la partie en cours, par exemple après le redémarrage du processus.
+     */
+    void reset() {
+        gameId = null;
+        startFen = null;
+        moves = List.of();
+        positionSent = false;
+        syncNeeded = false;
+    }
+
+    static String positionCommand(String startFen, List<String> moves) {
+        StringBuilder command = new StringBuilder(32 + moves.size() * 6);
+        if (START_FEN.equals(startFen)) {
+            command.append("position startpos");
+        } else {
+            command.append("position fen ").append(startFen);
+        }
+        if (!moves.isEmpty()) {
+            command.append(" moves");
+            for (String move : moves) {
+                command.append(' ').append(move);
+            }
+        }
+        return command.toString();
+    }
+
+    private boolean extendsSentMoves(List<String> newMoves) {
+        return newMoves.size() >= moves.size() && newMoves.subList(0, moves.size()).equals(moves);
+    }
+}
@@ -12,6 +12,7 @@ import com.chess.core.usecases.GetBestMoveUseCase;
 import com.chess.core.usecases.MovePieceUseCase;
 
 import java.util.Scanner;
+import java.util.UUID;
 
 /**
  * Contrôleur pour l'interface console.
@@ -39,6 +40,7 @@ public class ConsoleController {
         displayWelcome();
         setupPlayers();
         gameState.initializeGame();
+        gameState.setGameId(UUID.randomUUID().toString());
         gameLoop();
     }
 
@@ -120,7 +122,7 @@ public class ConsoleController {
         for (int row = 7; row >= 0; row--) {
             System.out.print((row + 1) + " │");
             for (int col = 0; col < 8; col++) {
-                Piece piece = board.getPieceAt(new Position(row, col));
+                Piece piece = board.getPieceAt(Position.of(row, col));
 
                 System.out.print(" " + getPieceSymbol(piece) + " │");
             }
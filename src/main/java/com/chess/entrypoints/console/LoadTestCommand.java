@@ -0,0 +1,294 @@
+package com.chess.entrypoints.console;
+
+import com.chess.configuration.AppConfig;
+import com.chess.core.entities.Position;
+import com.chess.core.entities.game.GameState;
+import com.chess.core.entities.game.LegalMoveGenerator;
+import com.chess.core.entities.game.MoveList;
+import com.chess.core.entities.game.PackedMove;
+import com.chess.core.entities.pieces.PieceType;
+import com.chess.core.ports.GameRepository;
+import com.chess.core.usecases.MovePieceUseCase;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Outil console de charge : simule N parties en parallèle à travers toute la chaîne applicative
+ * ({@link AppConfig}, {@code MovePieceInteractor}, journal des coups,
+ * {@link GameRepository#autoSave}) et mesure débit, latences, GC et fichiers écrits.
+ * <p>
+ * Usage : {@code --load [--games N] [--threads N] [--plies N] [--autosave N] [--mover random|scripted]
+ * [--script "g1f3 g8f6 ..."] [--seed N] [--dir <répertoire>]}
+ * <p>
+ * Le joueur "random" tire un coup légal au hasard ; le joueur "scripted" rejoue le script en
+ * boucle (par défaut des allers-retours de cavaliers, qui finissent en nulle par répétition).
+ * Aucun moteur n'est démarré.
+ */
+public class LoadTestCommand {
+    private static final String DEFAULT_SCRIPT = "g1f3 g8f6 f3g1 f6g8";
+
+    private int games = 100;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int maxPlies = 200;
+    private int autoSaveInterval = 10;
+    private boolean scripted;
+    private String script = DEFAULT_SCRIPT;
+    private long seed = 42L;
+    private Path directory;
+
+    public static void main(String[] args) {
+        LoadTestCommand command = new LoadTestCommand();
+        command.parseArguments(args);
+        try {
+            command.run();
+        } catch (IOException | InterruptedException e) {
+            System.err.println("Erreur du test de charge: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--plies" -> maxPlies = Integer.parseInt(args[++i]);
+                case "--autosave" -> autoSaveInterval = Integer.parseInt(args[++i]);
+                case "--mover" -> scripted = parseMover(args[++i]);
+                case "--script" -> script = args[++i];
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--dir" -> directory = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Option inconnue: " + args[i]);
+            }
+        }
+    }
+
+    private static boolean parseMover(String mover) {
+        return switch (mover) {
+            case "random" -> false;
+            case "scripted" -> true;
+            default -> throw new IllegalArgumentException("Joueur inconnu: " + mover);
+        };
+    }
+
+    private void run() throws IOException, InterruptedException {
+        if (directory == null) {
+            directory = Files.createTempDirectory("chess-load");
+        }
+        Path saveDirectory = directory.resolve("saves");
+        Path logDirectory = directory.resolve("logs");
+        AppConfig config = AppConfig.withBaseDirectory(directory.toString());
+        try {
+            runGames(config, saveDirectory, logDirectory);
+        } finally {
+            config.shutdown();
+        }
+    }
+
+    private void runGames(AppConfig config, Path saveDirectory, Path logDirectory)
+            throws IOException, InterruptedException {
+        System.out.printf("%d parties, %d threads, %d demi-coups max, joueur %s, sortie %s%n",
+                games, threads, maxPlies, scripted ? "scripté" : "aléatoire", directory);
+
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<GameRun>> futures = new ArrayList<>(games);
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            int gameIndex = i;
+            futures.add(executor.submit(() -> playGame(config, gameIndex)));
+        }
+
+        LatencyRecorder moveLatencies = new LatencyRecorder();
+        LatencyRecorder saveLatencies = new LatencyRecorder();
+        int finished = 0;
+        int errors = 0;
+        for (Future<GameRun> future : futures) {
+            try {
+                GameRun run = future.get();
+                moveLatencies.addAll(run.moveLatencies);
+                saveLatencies.addAll(run.saveLatencies);
+                finished += run.gameOver ? 1 : 0;
+                errors += run.error != null ? 1 : 0;
+                if (run.error != null && errors == 1) {
+                    System.out.println("Première erreur: " + run.error);
+                }
+            } catch (ExecutionException e) {
+                errors++;
+                System.out.println("Partie interrompue: " + e.getCause());
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        printReport(moveLatencies, saveLatencies, elapsed, finished, errors,
+                gcCount() - gcCountBefore, gcTimeMillis() - gcTimeBefore,
+                saveDirectory, logDirectory);
+    }
+
+    /**
+     * Joue une partie jusqu'à sa fin ou jusqu'au nombre maximal de demi-coups.
+     */
+    private GameRun playGame(AppConfig config, int gameIndex) {
+        MovePieceUseCase movePieceUseCase = config.getMovePieceUseCase();
+        GameRepository gameRepository = config.getGameRepository();
+        GameState gameState = new GameState();
+        gameState.initializeGame();
+        gameState.setGameId("load-" + gameIndex);
+
+        SplittableRandom random = new SplittableRandom(seed + gameIndex);
+        String[] scriptMoves = script.trim().split("\\s+");
+        MoveList legalMoves = new MoveList();
+        GameRun run = new GameRun();
+
+        try {
+            for (int ply = 0; ply < maxPlies && !gameState.isGameOver(); ply++) {
+                Position from;
+                Position to;
+                PieceType promotion = null;
+                if (scripted) {
+                    String notation = scriptMoves[ply % scriptMoves.length];
+                    from = Position.fromAlgebraic(notation.substring(0, 2));
+                    to = Position.fromAlgebraic(notation.substring(2, 4));
+                    if (notation.length() > 4) {
+                        promotion = PieceType.fromFen(notation.charAt(4));
+                    }
+                } else {
+                    LegalMoveGenerator.generateLegalMoves(gameState.getBoard(), gameState.getActivePlayer(), legalMoves);
+                    if (legalMoves.isEmpty()) {
+                        break;
+                    }
+                    int move = legalMoves.get(random.nextInt(legalMoves.size()));
+                    from = Position.of(PackedMove.from(move));
+                    to = Position.of(PackedMove.to(move));
+                    promotion = PackedMove.promotion(move);
+                }
+
+                long moveStart = System.nanoTime();
+                movePieceUseCase.execute(gameState, from, to, promotion);
+                run.moveLatencies.add(System.nanoTime() - moveStart);
+
+                if (autoSaveInterval > 0 && gameState.getMoveCount() % autoSaveInterval == 0) {
+                    long saveStart = System.nanoTime();
+                    gameRepository.autoSave(gameState.getGameId(), gameState);
+                    run.saveLatencies.add(System.nanoTime() - saveStart);
+                }
+            }
+            run.gameOver = gameState.isGameOver();
+        } catch (RuntimeException e) {
+            run.error = gameState.getGameId() + " au coup " + (gameState.getMoveCount() + 1) + ": " + e.getMessage();
+        }
+        return run;
+    }
+
+    private void printReport(LatencyRecorder moves, LatencyRecorder saves, long elapsedNanos,
+                             int finished, int errors, long gcCount, long gcTimeMillis,
+                             Path saveDirectory, Path logDirectory) throws IOException {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("Parties terminées: %d/%d (erreurs: %d)%n", finished, games, errors);
+        System.out.printf("Coups: %d en %.3f s (%d coups/s)%n",
+                moves.size(), seconds, seconds > 0 ? (long) (moves.size() / seconds) : moves.size());
+        moves.print("Latence par coup");
+        saves.print("Latence de sauvegarde");
+        System.out.printf("GC: %d collections, %d ms cumulés%n", gcCount, gcTimeMillis);
+        System.out.printf("Fichiers écrits: %d sauvegardes, %d journaux (%d Ko)%n",
+                countFiles(saveDirectory), countFiles(logDirectory),
+                (directorySize(saveDirectory) + directorySize(logDirectory)) / 1024);
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(gc.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    private static long gcTimeMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(gc.getCollectionTime(), 0);
+        }
+        return time;
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static long directorySize(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            long size = 0;
+            for (Path file : (Iterable<Path>) files::iterator) {
+                size += Files.size(file);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Résultat d'une partie simulée.
+     */
+    private static final class GameRun {
+        private final LatencyRecorder moveLatencies = new LatencyRecorder();
+        private final LatencyRecorder saveLatencies = new LatencyRecorder();
+        private boolean gameOver;
+        private String error;
+    }
+
+    /**
+     * Échantillons de latence en nanosecondes, avec calcul des percentiles.
+     */
+    private static final class LatencyRecorder {
+        private long[] samples = new long[256];
+        private int size;
+
+        void add(long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        void addAll(LatencyRecorder other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.samples[i]);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        void print(String label) {
+            if (size == 0) {
+                System.out.println(label + ": aucun échantillon");
+                return;
+            }
+            Arrays.sort(samples, 0, size);
+            System.out.printf("%s (µs): p50 %.1f, p99 %.1f, p999 %.1f, max %.1f%n", label,
+                    percentile(0.50), percentile(0.99), percentile(0.999), samples[size - 1] / 1000.0);
+        }
+
+        private double percentile(double p) {
+            int index = (int) Math.min(size - 1, Math.ceil(p * size) - 1);
+            return samples[Math.max(index, 0)] / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.chess.entrypoints.console;
+
+import com.chess.core.entities.game.GameState;
+import com.chess.core.usecases.PerftUseCase;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Outil console perft : compte les nœuds, affiche le "divide" et vérifie la suite de référence.
+ * <p>
+ * Usage : {@code --perft [--fen "<FEN>"] [--depth N] [--divide] [--threads N] [--hash MB] [--suite]}
+ */
+public class PerftCommand {
+    private static final String START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+    private static final long SUITE_NODE_LIMIT = 5_000_000L;
+
+    private String fen = START_FEN;
+    private int depth = 5;
+    private boolean divide;
+    private boolean suite;
+    private int threads = 1;
+    private int hashSizeMb;
+
+    public static void main(String[] args) {
+        PerftCommand command = new PerftCommand();
+        command.parseArguments(args);
+        boolean success = command.run();
+        if (!success) {
+            System.exit(1);
+        }
+    }
+
+    private void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--fen" -> fen = args[++i];
+                case "--depth" -> depth = Integer.parseInt(args[++i]);
+                case "--divide" -> divide = true;
+                case "--suite" -> suite = true;
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--hash" -> hashSizeMb = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Option inconnue: " + args[i]);
+            }
+        }
+    }
+
+    private boolean run() {
+        ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        try {
+            return suite ? runSuite(pool) : runPosition(pool);
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Compte une position, avec le détail par coup racine si demandé.
+     */
+    private boolean runPosition(ForkJoinPool pool) {
+        GameState gameState = new GameState();
+        gameState.initializeFromFen(fen);
+        PerftUseCase perft = new PerftUseCase(hashSizeMb);
+
+        long start = System.nanoTime();
+        Map<String, Long> rootCounts = pool != null
+                ? perft.divideParallel(gameState.getBoard(), gameState.getActivePlayer(), depth, pool)
+                : perft.divide(gameState.getBoard(), gameState.getActivePlayer(), depth);
+        long elapsed = System.nanoTime() - start;
+
+        long total = 0;
+        for (Map.Entry<String, Long> entry : rootCounts.entrySet()) {
+            if (divide) {
+                System.out.println(entry.getKey() + ": " + entry.getValue());
+            }
+            total += entry.getValue();
+        }
+        if (divide) {
+            System.out.println();
+            System.out.println("Coups: " + rootCounts.size());
+        }
+        printResult(depth, total, elapsed);
+        return true;
+    }
+
+    /**
+     * Vérifie chaque position de référence jusqu'à la profondeur demandée (bornée par la suite).
+     */
+    private boolean runSuite(ForkJoinPool pool) {
+        boolean success = true;
+        for (PerftUseCase.PerftPosition position : PerftUseCase.standardSuite()) {
+            GameState gameState = new GameState();
+            gameState.initializeFromFen(position.getFen());
+            PerftUseCase perft = new PerftUseCase(hashSizeMb);
+
+            System.out.println(position.getName() + " - " + position.getFen());
+            for (int d = 1; d <= Math.min(depth, position.getMaxDepth()); d++) {
+                long expected = position.getExpectedNodes(d);
+                if (expected > SUITE_NODE_LIMIT && d > 1) {
+                    break;
+                }
+                long start = System.nanoTime();
+                long nodes = pool != null
+                        ? perft.perftParallel(gameState.getBoard(), gameState.getActivePlayer(), d, pool)
+                        : perft.perft(gameState.getBoard(), gameState.getActivePlayer(), d);
+                long elapsed = System.nanoTime() - start;
+
+                boolean ok = nodes == expected;
+                success &= ok;
+                System.out.print(ok ? "  OK     " : "  ÉCHEC  ");
+                printResult(d, nodes, elapsed);
+                if (!ok) {
+                    System.out.println("         attendu: " + expected);
+                }
+            }
+        }
+        System.out.println(success ? "Suite perft: succès" : "Suite perft: ÉCHEC");
+        return success;
+    }
+
+    private static void printResult(int depth, long nodes, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long nodesPerSecond = seconds > 0 ? (long) (nodes / seconds) : nodes;
+        System.out.printf("profondeur %d : %d nœuds en %.3f s (%d nœuds/s)%n", depth, nodes, seconds, nodesPerSecond);
+    }
+}
@@ -16,12 +16,21 @@ import com.chess.entrypoints.gui.screens.AnalysisScreen;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Contrôleur principal de l'interface graphique.
  * Gère la navigation entre les écrans et l'état global.
  */
 public class GuiController {
+    // Délai maximal d'un coup de l'IA, au-delà du budget de recherche du moteur
+    private static final long AI_MOVE_TIMEOUT_MS = 10_000;
+
     private final AppConfig config;
     private final MovePieceUseCase movePieceUseCase;
     private final GetBestMoveUseCase getBestMoveUseCase;
@@ -36,6 +45,7 @@ public class GuiController {
     private GameClock gameClock;
     private Player whitePlayer;
     private Player blackPlayer;
+    private CompletableFuture<Move> pendingAIMove;
 
     // Écrans
     private MainMenuScreen mainMenuScreen;
@@ -89,6 +99,7 @@ public class GuiController {
      * Affiche le menu principal.
      */
     public void showMainMenu() {
+        cancelBackgroundWork();
         cardLayout.show(mainPanel, "MENU");
     }
 
@@ -96,8 +107,12 @@ public class GuiController {
      * Démarre une nouvelle partie.
      */
     public void startNewGame(GameConfig gameConfig) {
-        // Initialisation de la partie
+        cancelBackgroundWork();
+
+        // Initialisation de la partie ; un identifiant propre pour que le moteur (session UCI,
+        // affinité du pool) ne la confonde pas avec la précédente
         currentGame = new GameState();
+        currentGame.setGameId(UUID.randomUUID().toString());
 
         if (gameConfig.getStartingFen() != null && !gameConfig.getStartingFen().isEmpty()) {
             currentGame.initializeFromFen(gameConfig.getStartingFen());
@@ -229,38 +244,67 @@ public class GuiController {
             gameScreen.showAIThinking(true);
         }
 
-        // Calculer le coup dans un thread séparé
-        new Thread(() -> {
-            try {
-                Thread.sleep(300); // Petit délai pour l'effet visuel
-                Move bestMove = getBestMoveUseCase.execute(currentGame);
-
-                if (bestMove != null) {
-                    SwingUtilities.invokeLater(() -> {
-                        if (gameScreen != null) {
-                            gameScreen.showAIThinking(false);
-                        }
-                        attemptMove(bestMove.getFrom(), bestMove.getTo());
-                    });
-                }
-            } catch (Exception e) {
-                SwingUtilities.invokeLater(() -> {
-                    if (gameScreen != null) {
-                        gameScreen.showAIThinking(false);
-                    }
-                    JOptionPane.showMessageDialog(frame,
-                            "Erreur de l'IA : " + e.getMessage(),
-                            "Erreur",
-                            JOptionPane.ERROR_MESSAGE);
-                });
+        // Recherche asynchrone sur la position capturée : l'EDT peut continuer à lire et
+        // redessiner le plateau de la partie, et la recherche est arrêtée si la partie est quittée
+        GameState game = currentGame;
+        EnginePosition position = EnginePosition.of(game);
+        cancelAIMove();
+        CompletableFuture<Move> search = getBestMoveUseCase.executeAsync(position)
+                .orTimeout(AI_MOVE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        pendingAIMove = search;
+        search.whenComplete((bestMove, error) -> SwingUtilities.invokeLater(() -> {
+            if (pendingAIMove == search) {
+                pendingAIMove = null;
+            }
+            if (error instanceof CancellationException) {
+                return;
             }
-        }).start();
+            if (gameScreen != null) {
+                gameScreen.showAIThinking(false);
+            }
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                String message = cause instanceof TimeoutException ? "le moteur n'a pas répondu à temps" : cause.getMessage();
+                JOptionPane.showMessageDialog(frame,
+                        "Erreur de l'IA : " + message,
+                        "Erreur",
+                        JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            // Coup calculé pour une position qui n'est plus la position courante
+            if (game != currentGame || game.getSnapshot() != position.getSnapshot()) {
+                return;
+            }
+            attemptMove(bestMove.getFrom(), bestMove.getTo());
+        }));
+    }
+
+    /**
+     * Abandonne la recherche de l'IA en cours, s'il y en a une.
+     */
+    private void cancelAIMove() {
+        if (pendingAIMove != null) {
+            pendingAIMove.cancel(true);
+            pendingAIMove = null;
+        }
+    }
+
+    /**
+     * Arrête les recherches du moteur lancées pour l'écran que l'on quitte.
+     */
+    private void cancelBackgroundWork() {
+        cancelAIMove();
+        if (analysisScreen != null) {
+            analysisScreen.cancelAnalysis();
+        }
     }
 
     /**
      * Gère la fin de partie.
      */
     private void handleGameOver() {
+        cancelAIMove();
         if (gameClock != null) {
             gameClock.stop();
         }
@@ -352,6 +396,7 @@ public class GuiController {
      * Affiche l'écran d'analyse.
      */
     public void showAnalysis() {
+        cancelBackgroundWork();
         analysisScreen = new AnalysisScreen(this, currentGame, analyzePositionUseCase, settings);
         mainPanel.add(analysisScreen, "ANALYSIS");
         cardLayout.show(mainPanel, "ANALYSIS");
@@ -2,29 +2,32 @@ package com.chess.entrypoints.gui.components;
 
 import com.chess.core.entities.Color;
 import com.chess.core.entities.Position;
-import com.chess.core.entities.game.Board;
 import com.chess.core.entities.game.GameSettings;
+import com.chess.core.entities.game.LegalTargets;
 import com.chess.core.entities.game.Move;
+import com.chess.core.entities.game.PositionSnapshot;
 import com.chess.core.entities.pieces.Piece;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Panneau personnalisé pour afficher l'échiquier.
+ * <p>
+ * Le panneau dessine une photographie immuable de la position ({@link PositionSnapshot}) et
+ * non le plateau de la partie : un repaint ne voit jamais un coup à moitié joué.
  */
 public class BoardPanel extends JPanel {
     private static final int BOARD_SIZE = 640;
     private static final int SQUARE_SIZE = BOARD_SIZE / 8;
 
-    private Board board;
+    private PositionSnapshot position;
     private GameSettings settings;
     private Position selectedSquare;
     private Position hoveredSquare;
-    private List<Position> legalMoves;
+    private LegalTargets positionTargets; // coups légaux précalculés de la position affichée
+    private long legalMoves; // cases d'arrivée légales de la pièce sélectionnée
     private Position draggedPiecePosition;
     private Point draggedPieceLocation;
     private Move lastMove;
@@ -38,10 +41,9 @@ public class BoardPanel extends JPanel {
     private java.awt.Color highlightColor;
     private java.awt.Color legalMoveColor;
 
-    public BoardPanel(Board board, GameSettings settings) {
-        this.board = board;
+    public BoardPanel(PositionSnapshot position, GameSettings settings) {
+        this.position = position;
         this.settings = settings;
-        this.legalMoves = new ArrayList<>();
 
         setPreferredSize(new Dimension(BOARD_SIZE, BOARD_SIZE));
         setBackground(java.awt.Color.WHITE);
@@ -108,12 +110,12 @@ public class BoardPanel extends JPanel {
         Position clicked = getSquareAt(e.getPoint());
         if (clicked == null) return;
 
-        Piece piece = board.getPieceAt(clicked);
+        Piece piece = position.getPieceAt(clicked);
 
         if (settings.getMoveMode() == GameSettings.MoveMode.DRAG_AND_DROP && piece != null) {
             draggedPiecePosition = clicked;
             draggedPieceLocation = e.getPoint();
-            legalMoves = piece.getLegalMoves(clicked, board);
+            legalMoves = legalTargetsFor(piece, clicked);
         } else if (settings.getMoveMode() == GameSettings.MoveMode.CLICK) {
             handleClickMode(clicked);
         } else {
@@ -121,7 +123,7 @@ public class BoardPanel extends JPanel {
             if (piece != null) {
                 draggedPiecePosition = clicked;
                 draggedPieceLocation = e.getPoint();
-                legalMoves = piece.getLegalMoves(clicked, board);
+                legalMoves = legalTargetsFor(piece, clicked);
             } else {
                 handleClickMode(clicked);
             }
@@ -140,7 +142,7 @@ public class BoardPanel extends JPanel {
 
             draggedPiecePosition = null;
             draggedPieceLocation = null;
-            legalMoves.clear();
+            legalMoves = 0L;
             repaint();
         }
     }
@@ -162,23 +164,39 @@ public class BoardPanel extends JPanel {
 
     private void handleClickMode(Position clicked) {
         if (selectedSquare == null) {
-            Piece piece = board.getPieceAt(clicked);
+            Piece piece = position.getPieceAt(clicked);
             if (piece != null) {
                 selectedSquare = clicked;
-                legalMoves = piece.getLegalMoves(clicked, board);
+                legalMoves = legalTargetsFor(piece, clicked);
             }
         } else {
             if (clicked.equals(selectedSquare)) {
                 selectedSquare = null;
-                legalMoves.clear();
+                legalMoves = 0L;
             } else {
                 attemptMove(selectedSquare, clicked);
                 selectedSquare = null;
-                legalMoves.clear();
+                legalMoves = 0L;
             }
         }
     }
 
+    /**
+     * Cases d'arrivée légales d'une pièce, lues dans la table précalculée si elle correspond
+     * à la position affichée, sinon calculées sur place à partir d'une copie de la position.
+     */
+    private long legalTargetsFor(Piece piece, Position from) {
+        Color color = piece.getColor();
+        LegalTargets targets = positionTargets;
+        if (targets == null || color != position.getSideToMove() || !targets.matches(position)) {
+            targets = LegalTargets.compute(position.toBoard(), color);
+            if (color == position.getSideToMove()) {
+                positionTargets = targets;
+            }
+        }
+        return targets.getTargets(from);
+    }
+
     private void attemptMove(Position from, Position to) {
         if (onMoveAttempt != null) {
             onMoveAttempt.onMove(from, to);
@@ -190,7 +208,7 @@ public class BoardPanel extends JPanel {
         int row = 7 - (point.y / SQUARE_SIZE); // Inversé pour l'affichage
 
         if (row >= 0 && row < 8 && col >= 0 && col < 8) {
-            return new Position(row, col);
+            return Position.of(row, col);
         }
         return null;
     }
@@ -264,10 +282,11 @@ public class BoardPanel extends JPanel {
         }
 
         // Coups légaux
-        if (settings.isShowLegalMoves() && !legalMoves.isEmpty()) {
+        if (settings.isShowLegalMoves() && legalMoves != 0L) {
             g.setColor(legalMoveColor);
-            for (Position pos : legalMoves) {
-                Piece target = board.getPieceAt(pos);
+            for (long targets = legalMoves; targets != 0L; targets &= targets - 1) {
+                Position pos = Position.of(Long.numberOfTrailingZeros(targets));
+                Piece target = position.getPieceAt(pos);
                 if (target != null) {
                     // Capture - cercle sur le bord
                     drawCaptureIndicator(g, pos);
@@ -309,14 +328,14 @@ public class BoardPanel extends JPanel {
     private void drawPieces(Graphics2D g) {
         for (int row = 0; row < 8; row++) {
             for (int col = 0; col < 8; col++) {
-                Position pos = new Position(row, col);
+                Position pos = Position.of(row, col);
 
                 // Ne pas dessiner la pièce en cours de déplacement
                 if (pos.equals(draggedPiecePosition)) {
                     continue;
                 }
 
-                Piece piece = board.getPieceAt(pos);
+                Piece piece = position.getPieceAt(pos);
                 if (piece != null) {
                     int x = col * SQUARE_SIZE;
                     int y = (7 - row) * SQUARE_SIZE;
@@ -328,7 +347,7 @@ public class BoardPanel extends JPanel {
 
     private void drawDraggedPiece(Graphics2D g) {
         if (draggedPiecePosition != null && draggedPieceLocation != null) {
-            Piece piece = board.getPieceAt(draggedPiecePosition);
+            Piece piece = position.getPieceAt(draggedPiecePosition);
             if (piece != null) {
                 int x = draggedPieceLocation.x - SQUARE_SIZE / 2;
                 int y = draggedPieceLocation.y - SQUARE_SIZE / 2;
@@ -377,11 +396,21 @@ public class BoardPanel extends JPanel {
         repaint();
     }
 
-    public void updateBoard(Board board) {
-        this.board = board;
+    /**
+     * Affiche une nouvelle position.
+     */
+    public void updatePosition(PositionSnapshot position) {
+        this.position = position;
         repaint();
     }
 
+    /**
+     * Fournit les coups légaux précalculés de la position (ignorés s'ils ne lui correspondent plus).
+     */
+    public void setLegalTargets(LegalTargets legalTargets) {
+        this.positionTargets = legalTargets;
+    }
+
     public void setOnMoveAttempt(MoveCallback callback) {
         this.onMoveAttempt = callback;
     }
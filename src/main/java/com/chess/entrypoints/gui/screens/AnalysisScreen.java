@@ -1,9 +1,15 @@
 package com.chess.entrypoints.gui.screens;
 
+import com.chess.core.entities.Color;
 import com.chess.core.entities.Position;
+import com.chess.core.entities.game.EnginePosition;
 import com.chess.core.entities.game.GameSettings;
 import com.chess.core.entities.game.GameState;
+import com.chess.core.entities.game.GameTree;
+import com.chess.core.entities.game.LegalMoveGenerator;
 import com.chess.core.entities.game.Move;
+import com.chess.core.entities.pieces.Piece;
+import com.chess.core.entities.pieces.PieceType;
 import com.chess.core.usecases.AnalyzePositionUseCase;
 import com.chess.entrypoints.gui.GuiController;
 import com.chess.entrypoints.gui.components.*;
@@ -11,7 +17,9 @@ import com.chess.entrypoints.gui.components.*;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Écran d'analyse post-partie avec évaluation des coups.
@@ -32,6 +40,13 @@ public class AnalysisScreen extends JPanel {
     private int currentMoveIndex = -1;
     private List<Move> moves;
 
+    // Ligne de la partie et variantes explorées depuis l'échiquier
+    private final GameTree gameTree;
+    private final List<GameTree.Node> mainLine;
+
+    // Évaluation du moteur en cours pour la liste des coups
+    private CompletableFuture<Double> pendingEvaluation;
+
     public AnalysisScreen(GuiController controller, GameState gameState,
                           AnalyzePositionUseCase analyzeUseCase, GameSettings settings) {
         this.controller = controller;
@@ -39,6 +54,8 @@ public class AnalysisScreen extends JPanel {
         this.analyzeUseCase = analyzeUseCase;
         this.settings = settings;
         this.moves = gameState.getMoveHistory();
+        this.gameTree = GameTree.of(gameState);
+        this.mainLine = gameTree.getMainLine();
 
         setLayout(new BorderLayout(10, 10));
         setBackground(new java.awt.Color(49, 46, 43));
@@ -159,7 +176,8 @@ public class AnalysisScreen extends JPanel {
         panel.add(evaluationBar, BorderLayout.WEST);
 
         // Échiquier
-        boardPanel = new BoardPanel(gameState.getBoard(), settings);
+        boardPanel = new BoardPanel(gameTree.getSnapshot(), settings);
+        boardPanel.setOnMoveAttempt(this::exploreVariation);
 
         JPanel boardContainer = new JPanel(new GridBagLayout());
         boardContainer.setBackground(new java.awt.Color(49, 46, 43));
@@ -208,38 +226,82 @@ public class AnalysisScreen extends JPanel {
     }
 
     private void startAnalysis() {
-        // Analyse en arrière-plan
-        new Thread(() -> {
-            for (int i = 0; i < moves.size(); i++) {
-                Move move = moves.get(i);
-
-                // Classification du coup (à améliorer avec analyse moteur)
-                String classification = classifyMove(move, i);
-
-                String moveText = String.format("%d. %s %s",
-                        (i / 2) + 1,
-                        move.toAlgebraic(),
-                        classification);
-
-                int index = i;
-                SwingUtilities.invokeLater(() -> {
-                    moveListModel.addElement(moveText);
-                    analysisProgress.setValue((index + 1) * 100 / moves.size());
-                });
-
-                try {
-                    Thread.sleep(100); // Simule l'analyse
-                } catch (InterruptedException e) {
-                    break;
-                }
+        // Positions après chaque coup, capturées ici : l'arbre n'est lu que depuis l'EDT
+        String startFen = gameState.getInitialSnapshot().toFen();
+        List<String> line = gameState.getMoveHistoryAlgebraic();
+        List<EnginePosition> positions = new ArrayList<>(mainLine.size());
+        GameTree.Node displayed = gameTree.getCurrent();
+        for (int i = 0; i < mainLine.size(); i++) {
+            gameTree.goTo(mainLine.get(i));
+            positions.add(EnginePosition.of(gameState.getGameId(), startFen, line.subList(0, i + 1),
+                    gameTree.getSnapshot()));
+        }
+        gameTree.goTo(displayed);
+
+        analyzeMove(positions, 0, true);
+    }
+
+    /**
+     * Évalue la position après le coup {@code index}, l'ajoute à la liste puis passe au suivant.
+     * Les évaluations sont demandées une à une au moteur, de façon asynchrone.
+     */
+    private void analyzeMove(List<EnginePosition> positions, int index, boolean engineAvailable) {
+        if (index == positions.size()) {
+            analysisProgress.setIndeterminate(false);
+            analysisProgress.setValue(100);
+            analysisProgress.setString("Analyse terminée ✓");
+            return;
+        }
+        if (!engineAvailable) {
+            addMoveEntry(index, "");
+            analyzeMove(positions, index + 1, false);
+            return;
+        }
+
+        EnginePosition position = positions.get(index);
+        CompletableFuture<Double> evaluation = analyzeUseCase.evaluateAsync(position);
+        pendingEvaluation = evaluation;
+        evaluation.whenComplete((score, error) -> SwingUtilities.invokeLater(() -> {
+            if (pendingEvaluation != evaluation || evaluation.isCancelled()) {
+                return;
             }
+            // Score du camp au trait, ramené au point de vue des blancs
+            boolean evaluated = error == null;
+            addMoveEntry(index, evaluated ? formatEvaluation(
+                    position.getSnapshot().getSideToMove() == Color.WHITE ? score : -score) : "");
+            analyzeMove(positions, index + 1, evaluated);
+        }));
+    }
+
+    /**
+     * Arrête l'analyse du moteur, par exemple quand l'écran est quitté.
+     */
+    public void cancelAnalysis() {
+        if (pendingEvaluation != null) {
+            CompletableFuture<Double> evaluation = pendingEvaluation;
+            pendingEvaluation = null;
+            evaluation.cancel(true);
+        }
+    }
 
-            SwingUtilities.invokeLater(() -> {
-                analysisProgress.setIndeterminate(false);
-                analysisProgress.setValue(100);
-                analysisProgress.setString("Analyse terminée ✓");
-            });
-        }).start();
+    private void addMoveEntry(int index, String evaluation) {
+        Move move = moves.get(index);
+        // Classification du coup (à améliorer avec analyse moteur)
+        String classification = classifyMove(move, index);
+        String moveText = String.format("%d. %s %s %s",
+                (index / 2) + 1,
+                move.toAlgebraic(),
+                classification,
+                evaluation).trim();
+        moveListModel.addElement(moveText);
+        analysisProgress.setValue((index + 1) * 100 / moves.size());
+    }
+
+    private static String formatEvaluation(double whiteScore) {
+        if (Math.abs(whiteScore) > 1000) {
+            return whiteScore > 0 ? "(+M)" : "(-M)";
+        }
+        return String.format("(%+.2f)", whiteScore / 100.0);
     }
 
     private String classifyMove(Move move, int moveIndex) {
@@ -269,17 +331,11 @@ public class AnalysisScreen extends JPanel {
         currentMoveIndex = index;
         moveList.setSelectedIndex(index);
 
-        // Reconstruire la position jusqu'à ce coup
-        GameState tempState = new GameState();
-        tempState.initializeGame();
-
-        for (int i = 0; i <= index; i++) {
-            // Rejouer les coups (simplifié)
-            // TODO: Implémenter correctement
-        }
+        // Se placer après ce coup : seuls les coups entre la branche affichée et la cible sont rejoués
+        gameTree.goTo(mainLine.get(index));
 
         // Mettre à jour l'affichage
-        boardPanel.updateBoard(gameState.getBoard());
+        boardPanel.updatePosition(gameTree.getSnapshot());
         Move currentMove = moves.get(index);
         boardPanel.setLastMove(currentMove);
 
@@ -287,6 +343,27 @@ public class AnalysisScreen extends JPanel {
         analyzeCurrentMove(currentMove);
     }
 
+    /**
+     * Joue un coup depuis la position affichée : il ouvre une variante, ou suit une ligne
+     * déjà explorée si ce coup a déjà été joué ici.
+     */
+    private void exploreVariation(Position from, Position to) {
+        Piece piece = gameTree.getBoard().getPieceAt(from);
+        if (piece == null || piece.getColor() != gameTree.getSideToMove()
+                || !LegalMoveGenerator.isLegalMove(gameTree.getBoard(), from, to)) {
+            return;
+        }
+
+        // Promotion en dame par défaut, comme pendant la partie
+        PieceType promotion = piece.getType() == PieceType.PAWN && (to.getRow() == 0 || to.getRow() == 7)
+                ? PieceType.QUEEN : null;
+        Move move = gameTree.addMove(from, to, promotion).getMove();
+
+        boardPanel.updatePosition(gameTree.getSnapshot());
+        boardPanel.setLastMove(move);
+        analyzeCurrentMove(move);
+    }
+
     private void analyzeCurrentMove(Move move) {
         StringBuilder analysis = new StringBuilder();
 
@@ -10,6 +10,7 @@ import com.chess.entrypoints.gui.components.*;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Écran principal de jeu avec plateau, horloge, historique et contrôles.
@@ -54,6 +55,7 @@ public class GameScreen extends JPanel {
         setBorder(new EmptyBorder(10, 10, 10, 10));
 
         initializeComponents();
+        precomputeLegalTargets();
     }
 
     private void initializeComponents() {
@@ -112,7 +114,7 @@ public class GameScreen extends JPanel {
         }
 
         // Échiquier
-        boardPanel = new BoardPanel(gameState.getBoard(), settings);
+        boardPanel = new BoardPanel(gameState.getCurrentSnapshot(), settings);
         boardPanel.setOnMoveAttempt((from, to) -> controller.attemptMove(from, to));
 
         JPanel boardContainer = new JPanel(new GridBagLayout());
@@ -229,8 +231,9 @@ public class GameScreen extends JPanel {
      */
     public void onMoveExecuted(Move move) {
         // Mise à jour du plateau
-        boardPanel.updateBoard(gameState.getBoard());
+        boardPanel.updatePosition(gameState.getCurrentSnapshot());
         boardPanel.setLastMove(move);
+        precomputeLegalTargets();
 
         // Mise à jour de l'historique
         moveListPanel.addMove(move, gameState.getMoveCount());
@@ -244,6 +247,14 @@ public class GameScreen extends JPanel {
         lowTimeAlertLabel.setVisible(false);
     }
 
+    /**
+     * Calcule hors de l'EDT les coups légaux de la nouvelle position, puis les transmet au plateau.
+     */
+    private void precomputeLegalTargets() {
+        gameState.precomputeLegalTargets(ForkJoinPool.commonPool())
+                .thenAccept(targets -> SwingUtilities.invokeLater(() -> boardPanel.setLegalTargets(targets)));
+    }
+
     /**
      * Met à jour l'horloge.
      */
@@ -297,11 +308,11 @@ public class GameScreen extends JPanel {
 
     private int calculateMaterialBalance() {
         int balance = 0;
-        Board board = gameState.getBoard();
+        PositionSnapshot position = gameState.getCurrentSnapshot();
 
         for (int row = 0; row < 8; row++) {
             for (int col = 0; col < 8; col++) {
-                var piece = board.getPieceAt(new Position(row, col));
+                var piece = position.getPieceAt(Position.of(row, col));
                 if (piece != null) {
                     int value = switch (piece.getType()) {
                         case PAWN -> 100;
@@ -331,7 +342,7 @@ public class GameScreen extends JPanel {
      * Applique les nouveaux paramètres.
      */
     public void applySettings(GameSettings settings) {
-        boardPanel.updateBoard(gameState.getBoard());
+        boardPanel.updatePosition(gameState.getCurrentSnapshot());
         moveListPanel.updateSettings(settings);
 
         // Réafficher la barre d'évaluation si nécessaire
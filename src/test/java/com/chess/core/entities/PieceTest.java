@@ -29,14 +29,14 @@ class PieceTest {
     void pawn_canMoveOneSquareForward() {
         // Given
         Pawn whitePawn = new Pawn(Color.WHITE);
-        Position start = new Position(1, 4); // e2
+        Position start = Position.of(1, 4); // e2
         board.placePiece(whitePawn, start);
 
         // When
         List<Position> moves = whitePawn.getLegalMoves(start, board);
 
         // Then
-        assertTrue(moves.contains(new Position(2, 4))); // e3
+        assertTrue(moves.contains(Position.of(2, 4))); // e3
     }
 
     @Test
@@ -44,14 +44,14 @@ class PieceTest {
     void pawn_canMoveTwoSquaresOnFirstMove() {
         // Given
         Pawn whitePawn = new Pawn(Color.WHITE);
-        Position start = new Position(1, 4); // e2
+        Position start = Position.of(1, 4); // e2
         board.placePiece(whitePawn, start);
 
         // When
         List<Position> moves = whitePawn.getLegalMoves(start, board);
 
         // Then
-        assertTrue(moves.contains(new Position(3, 4))); // e4
+        assertTrue(moves.contains(Position.of(3, 4))); // e4
     }
 
     @Test
@@ -59,7 +59,7 @@ class PieceTest {
     void knight_movesInLShape() {
         // Given
         Knight knight = new Knight(Color.WHITE);
-        Position start = new Position(3, 3); // d4
+        Position start = Position.of(3, 3); // d4
         board.placePiece(knight, start);
 
         // When
@@ -67,9 +67,9 @@ class PieceTest {
 
         // Then
         assertEquals(8, moves.size());
-        assertTrue(moves.contains(new Position(5, 4))); // e6
-        assertTrue(moves.contains(new Position(5, 2))); // c6
-        assertTrue(moves.contains(new Position(4, 5))); // f5
+        assertTrue(moves.contains(Position.of(5, 4))); // e6
+        assertTrue(moves.contains(Position.of(5, 2))); // c6
+        assertTrue(moves.contains(Position.of(4, 5))); // f5
     }
 
     @Test
@@ -77,7 +77,7 @@ class PieceTest {
     void rook_movesHorizontallyAndVertically() {
         // Given
         Rook rook = new Rook(Color.WHITE);
-        Position start = new Position(3, 3); // d4
+        Position start = Position.of(3, 3); // d4
         board.placePiece(rook, start);
 
         // When
@@ -92,7 +92,7 @@ class PieceTest {
     void bishop_movesDiagonally() {
         // Given
         Bishop bishop = new Bishop(Color.WHITE);
-        Position start = new Position(3, 3); // d4
+        Position start = Position.of(3, 3); // d4
         board.placePiece(bishop, start);
 
         // When
@@ -100,8 +100,8 @@ class PieceTest {
 
         // Then
         assertEquals(13, moves.size());
-        assertTrue(moves.contains(new Position(6, 6))); // g7
-        assertTrue(moves.contains(new Position(0, 0))); // a1
+        assertTrue(moves.contains(Position.of(6, 6))); // g7
+        assertTrue(moves.contains(Position.of(0, 0))); // a1
     }
 
     @Test
@@ -109,7 +109,7 @@ class PieceTest {
     void queen_combinesRookAndBishopMoves() {
         // Given
         Queen queen = new Queen(Color.WHITE);
-        Position start = new Position(3, 3); // d4
+        Position start = Position.of(3, 3); // d4
         board.placePiece(queen, start);
 
         // When
@@ -124,7 +124,7 @@ class PieceTest {
     void king_movesOneSquare() {
         // Given
         King king = new King(Color.WHITE);
-        Position start = new Position(3, 3); // d4
+        Position start = Position.of(3, 3); // d4
         board.placePiece(king, start);
 
         // When
@@ -140,8 +140,8 @@ class PieceTest {
         // Given
         Rook rook = new Rook(Color.WHITE);
         Pawn friendlyPawn = new Pawn(Color.WHITE);
-        Position rookPos = new Position(3, 3);
-        Position pawnPos = new Position(3, 5);
+        Position rookPos = Position.of(3, 3);
+        Position pawnPos = Position.of(3, 5);
 
         board.placePiece(rook, rookPos);
         board.placePiece(friendlyPawn, pawnPos);
@@ -159,8 +159,8 @@ class PieceTest {
         // Given
         Rook whiteRook = new Rook(Color.WHITE);
         Pawn blackPawn = new Pawn(Color.BLACK);
-        Position rookPos = new Position(3, 3);
-        Position pawnPos = new Position(3, 5);
+        Position rookPos = Position.of(3, 3);
+        Position pawnPos = Position.of(3, 5);
 
         board.placePiece(whiteRook, rookPos);
         board.placePiece(blackPawn, pawnPos);
@@ -178,9 +178,9 @@ class PieceTest {
         // Given
         Rook rook = new Rook(Color.WHITE);
         Pawn blockingPawn = new Pawn(Color.WHITE);
-        Position rookPos = new Position(3, 3);
-        Position pawnPos = new Position(3, 4);
-        Position beyondPawn = new Position(3, 5);
+        Position rookPos = Position.of(3, 3);
+        Position pawnPos = Position.of(3, 4);
+        Position beyondPawn = Position.of(3, 5);
 
         board.placePiece(rook, rookPos);
         board.placePiece(blockingPawn, pawnPos);
@@ -202,4 +202,36 @@ class PieceTest {
         assertEquals('R', new Rook(Color.WHITE).toFen());
         assertEquals('r', new Rook(Color.BLACK).toFen());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Une seule instance par type et couleur, partagée par les copies du plateau")
+    void pieces_areSharedFlyweights() {
+        // Given
+        board.setupInitialPosition();
+
+        // When
+        Board copy = board.copy();
+
+        // Then
+        assertSame(Piece.of(PieceType.KNIGHT, Color.WHITE), board.getPieceAt(Position.of(0, 1)));
+        assertSame(board.getPieceAt(Position.of(0, 1)), board.getPieceAt(Position.of(0, 6)));
+        assertSame(board.getPieceAt(Position.of(7, 4)), copy.getPieceAt(Position.of(7, 4)));
+    }
+
+    @Test
+    @DisplayName("Le roque dépend des droits du plateau et non de l'historique de la pièce")
+    void king_castlingFollowsBoardRights() {
+        // Given
+        board.setupFromFen("4k3/8/8/8/8/8/8/R3K2R w KQ - 0 1");
+        Piece king = board.getPieceAt(Position.of(0, 4));
+        Position e1 = Position.of(0, 4);
+
+        // When
+        board.getCastlingRights(Color.WHITE).setKingSide(false);
+
+        // Then
+        assertFalse(king.isValidMove(e1, Position.of(0, 6), board));
+        assertTrue(king.isValidMove(e1, Position.of(0, 2), board));
+        assertThat(king.getLegalMoves(e1, board)).contains(Position.of(0, 2)).doesNotContain(Position.of(0, 6));
+    }
+}
@@ -0,0 +1,250 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.Position;
+import com.chess.core.entities.pieces.PieceType;
+import com.chess.core.entities.pieces.Piece;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le plateau (représentation bitboard).
+ */
+class BoardTest {
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+    }
+
+    @Test
+    @DisplayName("La notation FEN est conservée après chargement")
+    void fen_roundTrip() {
+        String fen = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+        board.setupFromFen(fen);
+
+        assertEquals(fen, board.toFen(Color.WHITE));
+    }
+
+    @Test
+    @DisplayName("Le codec FEN gère l'absence de droits, les grands compteurs et rejette une FEN incomplète")
+    void fen_edgeCases() {
+        String fen = "8/8/8/3k4/8/8/8/4K3 b - - 49 123";
+
+        board.setupFromFen(fen);
+
+        assertEquals(fen, board.toFen(Color.BLACK));
+        assertEquals(49, board.getHalfMoveClock());
+        assertFalse(board.getCastlingRights(Color.WHITE).canCastleKingSide());
+        assertThrows(IllegalArgumentException.class, () -> board.setupFromFen("8/8/8/8 w KQkq"));
+        assertThrows(IllegalArgumentException.class, () -> board.setupFromFen("8/8/8/8/8/8/8/8 w - z9 0 1"));
+        assertEquals(fen, board.toFen(Color.BLACK));
+    }
+
+    @Test
+    @DisplayName("Les bitboards reflètent les pièces placées et retirées")
+    void bitboards_followPlaceAndRemove() {
+        // Given
+        Position d4 = Position.fromAlgebraic("d4");
+        board.placePiece(Piece.of(PieceType.ROOK, Color.WHITE), d4);
+
+        // Then
+        assertEquals(1L << 27, board.getBitboard(PieceType.ROOK, Color.WHITE));
+        assertEquals(1L << 27, board.getOccupancy(Color.WHITE));
+        assertEquals(1L << 27, board.getOccupancy());
+
+        // When
+        board.removePiece(d4);
+
+        // Then
+        assertEquals(0L, board.getOccupancy());
+        assertNull(board.getPieceAt(d4));
+    }
+
+    @Test
+    @DisplayName("Un nouveau chargement FEN remplace la position précédente")
+    void setupFromFen_clearsPreviousPosition() {
+        board.setupInitialPosition();
+
+        board.setupFromFen("8/8/8/3k4/8/8/8/3K4 w - - 0 1");
+
+        assertEquals(2, Long.bitCount(board.getOccupancy()));
+        assertNull(board.getPieceAt(Position.fromAlgebraic("e2")));
+    }
+
+    @Test
+    @DisplayName("Les attaques de pion sont diagonales")
+    void pawnAttacks_areDiagonal() {
+        board.setupFromFen("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1");
+
+        assertTrue(board.isSquareUnderAttack(Position.fromAlgebraic("d3"), Color.WHITE));
+        assertTrue(board.isSquareUnderAttack(Position.fromAlgebraic("f3"), Color.WHITE));
+        assertFalse(board.isSquareUnderAttack(Position.fromAlgebraic("e3"), Color.WHITE));
+    }
+
+    @Test
+    @DisplayName("Une pièce glissante est arrêtée par un obstacle")
+    void slidingAttacks_stopAtBlocker() {
+        board.setupFromFen("4k3/8/8/8/4p3/8/8/R3K3 w - - 0 1");
+
+        assertTrue(board.isSquareUnderAttack(Position.fromAlgebraic("a8"), Color.WHITE));
+        assertFalse(board.isKingInCheck(Color.BLACK));
+
+        board.setupFromFen("4k3/8/8/8/8/8/8/4R1K1 b - - 0 1");
+
+        assertTrue(board.isKingInCheck(Color.BLACK));
+    }
+
+    @Test
+    @DisplayName("Les positions sont canoniques et les accès par indice correspondent")
+    void positions_areCanonical() {
+        board.setupInitialPosition();
+        Position e2 = Position.fromAlgebraic("e2");
+
+        assertSame(e2, Position.of(1, 4));
+        assertSame(e2, Position.of(12));
+        assertEquals(12, e2.index());
+        assertSame(board.getPieceAt(e2), board.getPieceAt(12));
+        assertTrue(board.isSquareUnderAttack(Position.of(2, 4).index(), Color.WHITE));
+        assertThrows(IllegalArgumentException.class, () -> Position.of(8, 0));
+        assertThrows(IllegalArgumentException.class, () -> Position.of(64));
+    }
+
+    @Test
+    @DisplayName("La case du roi et le nombre de pièces suivent les coups joués et annulés")
+    void kingSquare_followsMakeAndUnmake() {
+        // Given
+        board.setupFromFen("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1");
+
+        // When
+        UndoInfo undo = board.makeMove(Move.fromAlgebraic("e1g1", board));
+
+        // Then
+        assertEquals(Position.fromAlgebraic("g1").index(), board.getKingSquare(Color.WHITE));
+        assertEquals(Position.fromAlgebraic("g1"), board.findKing(Color.WHITE));
+        assertEquals(3, board.getPieceCount(Color.BLACK));
+
+        board.unmakeMove(undo);
+        assertEquals(Position.fromAlgebraic("e1").index(), board.getKingSquare(Color.WHITE));
+        board.removePiece(Position.fromAlgebraic("e8"));
+        assertEquals(-1, board.getKingSquare(Color.BLACK));
+        assertFalse(board.isKingInCheck(Color.BLACK));
+    }
+
+    @Test
+    @DisplayName("La signature matérielle suit les captures et les promotions")
+    void materialKey_followsCapturesAndPromotions() {
+        // Given : le pion b7 prend la tour a8 en se promouvant en fou (case claire)
+        board.setupFromFen("r3k3/1P6/8/8/8/8/8/4K3 w - - 0 1");
+        long before = board.getMaterialKey();
+
+        // When
+        UndoInfo undo = board.makeMove(Move.fromAlgebraic("b7a8b", board));
+
+        // Then
+        long after = board.getMaterialKey();
+        assertEquals(0, MaterialKey.count(after, PieceType.PAWN, Color.WHITE));
+        assertEquals(1, MaterialKey.count(after, PieceType.BISHOP, Color.WHITE));
+        assertEquals(0, MaterialKey.count(after, PieceType.ROOK, Color.BLACK));
+        assertTrue(MaterialKey.isInsufficientMaterial(after));
+
+        Board fresh = new Board();
+        fresh.setupFromFen(board.toFen(Color.BLACK));
+        assertEquals(fresh.getMaterialKey(), after);
+
+        board.unmakeMove(undo);
+        assertEquals(before, board.getMaterialKey());
+        assertFalse(MaterialKey.isInsufficientMaterial(before));
+    }
+
+    @Test
+    @DisplayName("La copie est indépendante de l'original")
+    void copy_isIndependent() {
+        board.setupInitialPosition();
+
+        Board copy = board.copy();
+        copy.removePiece(Position.fromAlgebraic("e2"));
+        copy.getCastlingRights(Color.WHITE).disableAll();
+
+        assertNotNull(board.getPieceAt(Position.fromAlgebraic("e2")));
+        assertTrue(board.getCastlingRights(Color.WHITE).canCastleKingSide());
+        assertEquals(board.toFen(Color.WHITE).replace("KQkq", "kq").replace("PPPPPPPP", "PPPP1PPP"),
+                copy.toFen(Color.WHITE));
+    }
+
+    @Test
+    @DisplayName("Annuler un coup restaure exactement la position")
+    void unmakeMove_restoresPosition() {
+        // Given
+        String fen = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 3 12";
+        board.setupFromFen(fen);
+        UndoInfo undo = new UndoInfo();
+
+        for (String move : new String[]{"e1g1", "e1c1", "e5f7", "d5e6", "a1b1", "e2a6"}) {
+            // When
+            board.makeMove(Position.fromAlgebraic(move.substring(0, 2)),
+                    Position.fromAlgebraic(move.substring(2, 4)), null, undo);
+            board.unmakeMove(undo);
+
+            // Then
+            assertEquals(fen, board.toFen(Color.WHITE), move);
+        }
+    }
+
+    @Test
+    @DisplayName("Le roque, la prise en passant et la promotion sont appliqués puis annulés")
+    void makeMove_specialMoves() {
+        // Roque : la tour suit le roi et les droits sont perdus
+        board.setupFromFen("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1");
+        UndoInfo castling = board.makeMove(new Move.Builder(Position.fromAlgebraic("e1"),
+                Position.fromAlgebraic("g1"), board.getPieceAt(Position.fromAlgebraic("e1"))).build());
+        assertEquals("r3k2r/8/8/8/8/8/8/R4RK1 b kq - 1 1", board.toFen(Color.BLACK));
+        board.unmakeMove(castling);
+        assertEquals("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1", board.toFen(Color.WHITE));
+
+        // Prise en passant : le pion pris est retiré
+        board.setupFromFen("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 2");
+        UndoInfo enPassant = board.makeMove(new Move.Builder(Position.fromAlgebraic("e5"),
+                Position.fromAlgebraic("d6"), board.getPieceAt(Position.fromAlgebraic("e5"))).build());
+        assertEquals(PieceType.PAWN, enPassant.getCapturedPiece().getType());
+        assertEquals("4k3/8/3P4/8/8/8/8/4K3 b - - 0 2", board.toFen(Color.BLACK));
+        board.unmakeMove(enPassant);
+        assertEquals("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 2", board.toFen(Color.WHITE));
+
+        // Promotion avec capture
+        board.setupFromFen("1r2k3/P7/8/8/8/8/8/4K3 w - - 5 40");
+        UndoInfo promotion = board.makeMove(new Move.Builder(Position.fromAlgebraic("a7"),
+                Position.fromAlgebraic("b8"), board.getPieceAt(Position.fromAlgebraic("a7")))
+                .withPromotion(PieceType.QUEEN).build());
+        assertEquals("1Q2k3/8/8/8/8/8/8/4K3 b - - 0 40", board.toFen(Color.BLACK));
+        board.unmakeMove(promotion);
+        assertEquals("1r2k3/P7/8/8/8/8/8/4K3 w - - 5 40", board.toFen(Color.WHITE));
+    }
+
+    @Test
+    @DisplayName("La clé de Zobrist incrémentale correspond à celle recalculée depuis la FEN")
+    void zobristKey_matchesFreshBoard() {
+        // Given
+        board.setupInitialPosition();
+        long initialKey = board.getZobristKey(Color.WHITE);
+
+        // When
+        UndoInfo e4 = board.makeMove(new Move.Builder(Position.fromAlgebraic("e2"),
+                Position.fromAlgebraic("e4"), board.getPieceAt(Position.fromAlgebraic("e2"))).build());
+
+        // Then
+        Board fresh = new Board();
+        fresh.setupFromFen(board.toFen(Color.BLACK));
+        assertEquals(fresh.getZobristKey(Color.BLACK), board.getZobristKey(Color.BLACK));
+        assertNotEquals(board.getZobristKey(Color.WHITE), board.getZobristKey(Color.BLACK));
+
+        board.unmakeMove(e4);
+        assertEquals(initialKey, board.getZobristKey(Color.WHITE));
+    }
+}
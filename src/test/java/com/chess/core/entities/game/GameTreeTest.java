@@ -0,0 +1,103 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'arbre des coups et ses variantes.
+ */
+class GameTreeTest {
+
+    private GameTree tree;
+
+    @BeforeEach
+    void setUp() {
+        Board board = new Board();
+        board.setupInitialPosition();
+        tree = new GameTree(board, Color.WHITE);
+    }
+
+    @Test
+    @DisplayName("Les variantes partagent leur préfixe et la navigation restaure chaque position")
+    void variations_shareCommonPrefixAndRestorePositions() {
+        // Given : 1.e4 e5 2.Nf3 puis la variante 2.Bc4
+        play("e2e4");
+        GameTree.Node e5 = play("e7e5");
+        GameTree.Node nf3 = play("g1f3");
+        String fenAfterNf3 = tree.getBoard().toFen(Color.BLACK);
+        tree.goTo(e5);
+        GameTree.Node bc4 = play("f1c4");
+        String fenAfterBc4 = tree.getBoard().toFen(Color.BLACK);
+
+        // When : aller-retour entre les deux branches
+        tree.goTo(nf3);
+        String fenBack = tree.getBoard().toFen(Color.BLACK);
+        tree.goTo(bc4);
+
+        // Then
+        assertEquals(fenAfterNf3, fenBack);
+        assertEquals(fenAfterBc4, tree.getBoard().toFen(Color.BLACK));
+        assertSame(e5, nf3.getParent());
+        assertSame(e5, bc4.getParent());
+        assertEquals(2, e5.getChildren().size());
+        assertTrue(nf3.isMainLine());
+        assertFalse(bc4.isMainLine());
+        assertEquals(3, tree.getMainLine().size());
+        assertSame(nf3, tree.getMainLine().get(2));
+    }
+
+    @Test
+    @DisplayName("Rejouer un coup existant réutilise son nœud, et une variante peut devenir principale")
+    void existingMove_isReusedAndVariationPromoted() {
+        // Given
+        GameTree.Node e4 = play("e2e4");
+        tree.goTo(tree.getRoot());
+        GameTree.Node d4 = play("d2d4");
+        tree.goTo(tree.getRoot());
+
+        // When
+        GameTree.Node again = play("e2e4");
+        tree.promoteVariation(d4);
+
+        // Then
+        assertSame(e4, again);
+        assertEquals(2, tree.getRoot().getChildren().size());
+        assertSame(d4, tree.getMainLine().get(0));
+        assertEquals(Color.BLACK, tree.getSideToMove());
+        assertEquals("e2e4", again.getMove().toAlgebraic());
+        assertThrows(IllegalArgumentException.class,
+                () -> tree.addMove(Position.fromAlgebraic("e4"), Position.fromAlgebraic("e5"), null));
+    }
+
+    @Test
+    @DisplayName("L'arbre d'une partie part de sa position initiale et suit ses coups")
+    void fromGameState_followsMoveHistory() {
+        // Given
+        GameState gameState = new GameState();
+        gameState.initializeFromFen("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1");
+        Board board = gameState.getBoard();
+        for (String move : new String[]{"e2e4", "e8d7", "e4e5"}) {
+            Move played = Move.fromAlgebraic(move, board);
+            gameState.recordMove(played, board.makeMove(played));
+            gameState.switchPlayer();
+        }
+
+        // When
+        GameTree gameTree = GameTree.of(gameState);
+
+        // Then
+        assertEquals(gameState.toFen(), gameTree.getSnapshot().toFen());
+        gameTree.goTo(gameTree.getRoot());
+        assertEquals("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1", gameTree.getSnapshot().toFen());
+    }
+
+    private GameTree.Node play(String move) {
+        return tree.addMove(Position.fromAlgebraic(move.substring(0, 2)),
+                Position.fromAlgebraic(move.substring(2, 4)), null);
+    }
+}
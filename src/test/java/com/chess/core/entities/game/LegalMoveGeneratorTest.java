@@ -0,0 +1,129 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le générateur de coups légaux.
+ */
+class LegalMoveGeneratorTest {
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+    }
+
+    @Test
+    @DisplayName("20 coups légaux dans la position initiale")
+    void initialPosition_has20Moves() {
+        board.setupInitialPosition();
+
+        assertEquals(20, LegalMoveGenerator.generateLegalMoves(board, Color.WHITE).size());
+    }
+
+    @Test
+    @DisplayName("Une pièce clouée ne peut bouger que sur la ligne du clouage")
+    void pinnedPiece_staysOnPinLine() {
+        // Tour blanche e4 clouée par la dame noire e8
+        board.setupFromFen("4q2k/8/8/8/4R3/8/8/4K3 w - - 0 1");
+
+        assertTrue(LegalMoveGenerator.isLegalMove(board, pos("e4"), pos("e8")));
+        assertTrue(LegalMoveGenerator.isLegalMove(board, pos("e4"), pos("e2")));
+        assertFalse(LegalMoveGenerator.isLegalMove(board, pos("e4"), pos("a4")));
+    }
+
+    @Test
+    @DisplayName("En échec, seuls les coups qui parent l'échec sont légaux")
+    void inCheck_onlyEvasions() {
+        // Roi blanc e1 en échec par la tour e8 ; le fou c1 peut s'interposer en e3
+        board.setupFromFen("4r2k/8/8/8/8/8/8/2B1K3 w - - 0 1");
+
+        assertEquals(1, LegalMoveGenerator.getLegalMoves(board, pos("c1")).size());
+        assertTrue(LegalMoveGenerator.isLegalMove(board, pos("c1"), pos("e3")));
+        assertFalse(LegalMoveGenerator.isLegalMove(board, pos("e1"), pos("e2")));
+    }
+
+    @Test
+    @DisplayName("La prise en passant est refusée si elle découvre le roi sur la rangée")
+    void enPassant_horizontalPin() {
+        board.setupFromFen("8/8/8/K2pP2r/8/8/8/7k w - d6 0 1");
+
+        assertFalse(LegalMoveGenerator.isLegalMove(board, pos("e5"), pos("d6")));
+        assertTrue(LegalMoveGenerator.isLegalMove(board, pos("e5"), pos("e6")));
+    }
+
+    @Test
+    @DisplayName("Pas de roque à travers une case attaquée")
+    void castling_throughAttackedSquare() {
+        board.setupFromFen("r3k2r/8/8/8/8/8/5r2/R3K2R w KQkq - 0 1");
+
+        assertFalse(LegalMoveGenerator.isLegalMove(board, pos("e1"), pos("g1")));
+        assertTrue(LegalMoveGenerator.isLegalMove(board, pos("e1"), pos("c1")));
+    }
+
+    @Test
+    @DisplayName("Les coups encodés correspondent aux coups objets et se convertissent dans les deux sens")
+    void packedMoves_matchMoveObjects() {
+        // Given : prise en passant, promotions avec capture et roques disponibles
+        board.setupFromFen("r3k2r/1P6/8/3pP3/8/8/8/R3K2R w KQkq d6 0 1");
+        MoveList packed = new MoveList(4);
+
+        // When
+        LegalMoveGenerator.generateLegalMoves(board, Color.WHITE, packed);
+        List<Move> moves = LegalMoveGenerator.generateLegalMoves(board, Color.WHITE);
+
+        // Then
+        assertEquals(moves.size(), packed.size());
+        for (int i = 0; i < packed.size(); i++) {
+            Move move = moves.get(i);
+            assertEquals(move.toAlgebraic(), PackedMove.toAlgebraic(packed.get(i)));
+            assertEquals(move.getMoveType(), PackedMove.type(packed.get(i)));
+            assertEquals(packed.get(i), PackedMove.fromMove(move));
+        }
+        int enPassant = PackedMove.fromMove(Move.fromAlgebraic("e5d6", board));
+        assertTrue(packed.contains(PackedMove.from(enPassant), PackedMove.to(enPassant)));
+        assertTrue(moves.stream().anyMatch(m -> m.getMoveType() == Move.MoveType.EN_PASSANT && m.isCapture()));
+        assertEquals(8, moves.stream().filter(Move::isPromotion).count());
+    }
+
+    @Test
+    @DisplayName("La carte des coups légaux précalculée correspond au générateur et suit la position")
+    void legalTargets_matchGeneratorAndPosition() {
+        // Given
+        GameState gameState = new GameState();
+        gameState.initializeFromFen("r3k2r/8/8/8/8/8/5r2/R3K2R w KQkq - 0 1");
+
+        // When : calcul sur un exécuteur direct
+        LegalTargets targets = gameState.precomputeLegalTargets(Runnable::run).join();
+
+        // Then
+        assertSame(targets, gameState.getLegalTargets());
+        assertTrue(targets.matches(gameState.getBoard(), Color.WHITE));
+        PositionSnapshot before = gameState.getCurrentSnapshot();
+        assertTrue(targets.matches(before));
+        assertEquals(LegalMoveGenerator.getLegalTargets(gameState.getBoard(), pos("e1")),
+                targets.getTargets(pos("e1")));
+        assertEquals(List.of(pos("c1"), pos("d1"), pos("f2")), targets.getTargetPositions(pos("e1")));
+        assertFalse(targets.isLegal(pos("e1"), pos("g1")));
+        assertTrue(targets.isLegal(pos("e1"), pos("c1")));
+
+        gameState.getBoard().makeMove(pos("a1"), pos("a2"), null, new UndoInfo());
+        assertFalse(targets.matches(gameState.getBoard(), Color.WHITE));
+        assertFalse(targets.matches(gameState.getCurrentSnapshot()));
+        assertTrue(targets.matches(before));
+        assertNotSame(targets, gameState.getLegalTargets());
+    }
+
+    private static Position pos(String algebraic) {
+        return Position.fromAlgebraic(algebraic);
+    }
+}
@@ -0,0 +1,101 @@
+package com.chess.core.entities.game;
+
+import com.chess.core.entities.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la notation algébrique standard.
+ */
+class SanCodecTest {
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+    }
+
+    @Test
+    @DisplayName("Les coups spéciaux, l'échec et le mat sont écrits en SAN")
+    void toSan_specialMovesAndSuffixes() {
+        // Given : prise en passant, promotion avec capture et roques disponibles
+        board.setupFromFen("r3k2r/1P6/8/3pP3/8/8/8/R3K2R w KQkq d6 0 1");
+
+        // Then
+        assertEquals("exd6", san(Color.WHITE, "e5d6"));
+        assertEquals("bxa8=Q+", san(Color.WHITE, "b7a8q"));
+        assertEquals("b8=N", san(Color.WHITE, "b7b8n"));
+        assertEquals("O-O", san(Color.WHITE, "e1g1"));
+        assertEquals("O-O-O", san(Color.WHITE, "e1c1"));
+        assertEquals("Rxa8+", san(Color.WHITE, "a1a8"));
+
+        board.setupFromFen("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        assertEquals("Ra8#", san(Color.WHITE, "a1a8"));
+    }
+
+    @Test
+    @DisplayName("La désambiguïsation utilise la colonne, sinon la rangée, sinon les deux")
+    void toSan_disambiguation() {
+        // Given : trois dames peuvent aller en d4
+        board.setupFromFen("1k6/8/8/8/Q6Q/8/8/Q3K3 w - - 0 1");
+
+        // Then
+        assertEquals("Qhd4", san(Color.WHITE, "h4d4"));
+        assertEquals("Q1d4", san(Color.WHITE, "a1d4"));
+        assertEquals("Qa4d4", san(Color.WHITE, "a4d4"));
+        assertEquals("Qb2+", san(Color.WHITE, "a1b2"));
+    }
+
+    @Test
+    @DisplayName("Tout coup légal relu depuis sa SAN redonne le même coup")
+    void roundTrip_allLegalMoves() {
+        String[] fens = {
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "r3k2r/1P6/8/3pP3/8/8/8/R3K2R w KQkq d6 0 1",
+                "1k6/8/8/8/Q6Q/8/8/Q3K3 w - - 0 1",
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"
+        };
+        MoveList legalMoves = new MoveList();
+
+        for (String fen : fens) {
+            board.setupFromFen(fen);
+            LegalMoveGenerator.generateLegalMoves(board, Color.WHITE, legalMoves);
+            String fenBefore = board.toFen(Color.WHITE);
+
+            for (int i = 0; i < legalMoves.size(); i++) {
+                int move = legalMoves.get(i);
+                String san = SanCodec.toSan(board, Color.WHITE, move, legalMoves);
+                assertEquals(move, SanCodec.fromSan(board, san, legalMoves), fen + " " + san);
+            }
+            assertEquals(fenBefore, board.toFen(Color.WHITE));
+        }
+    }
+
+    @Test
+    @DisplayName("Les variantes d'écriture sont lues et les notations invalides rejetées")
+    void fromSan_variantsAndErrors() {
+        board.setupFromFen("r3k2r/1P6/8/3pP3/8/8/8/R3K2R w KQkq d6 0 1");
+
+        assertEquals("e1g1", PackedMove.toAlgebraic(SanCodec.fromSan(board, Color.WHITE, "0-0")));
+        assertEquals("b7b8q", PackedMove.toAlgebraic(SanCodec.fromSan(board, Color.WHITE, "b8Q")));
+        assertEquals("b7a8r", PackedMove.toAlgebraic(SanCodec.fromSan(board, Color.WHITE, "bxa8=R!?")));
+        assertEquals("e5d6", PackedMove.toAlgebraic(SanCodec.fromSan(board, Color.WHITE, "exd6")));
+
+        assertThrows(IllegalArgumentException.class, () -> SanCodec.fromSan(board, Color.WHITE, "Nf3"));
+        assertThrows(IllegalArgumentException.class, () -> SanCodec.fromSan(board, Color.WHITE, "z9"));
+
+        board.setupFromFen("1k6/8/8/8/Q6Q/8/8/Q3K3 w - - 0 1");
+        assertThrows(IllegalArgumentException.class, () -> SanCodec.fromSan(board, Color.WHITE, "Qd4"));
+        assertEquals("h4d4", PackedMove.toAlgebraic(SanCodec.fromSan(board, Color.WHITE, "Qhd4")));
+    }
+
+    private String san(Color side, String algebraic) {
+        int move = PackedMove.fromMove(Move.fromAlgebraic(algebraic, board));
+        return SanCodec.toSan(board, side, move);
+    }
+}
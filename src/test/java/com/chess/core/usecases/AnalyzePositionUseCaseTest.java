@@ -0,0 +1,57 @@
+package com.chess.core.usecases;
+
+import com.chess.core.entities.game.EnginePosition;
+import com.chess.core.entities.game.GameState;
+import com.chess.core.ports.ChessEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour l'analyse asynchrone d'une position.
+ */
+@ExtendWith(MockitoExtension.class)
+class AnalyzePositionUseCaseTest {
+
+    @Mock
+    private ChessEngine chessEngine;
+
+    @Test
+    @DisplayName("L'analyse asynchrone calcule les coups légaux sans redemander le moteur")
+    void executeAsync_shouldComputeLegalMovesWithoutEngine() {
+        // Given
+        GameState gameState = new GameState();
+        gameState.initializeGame();
+        EnginePosition position = EnginePosition.of(gameState);
+        CompletableFuture<Double> evaluation = new CompletableFuture<>();
+        CompletableFuture<String> bestMove = new CompletableFuture<>();
+        when(chessEngine.evaluatePositionAsync(position)).thenReturn(evaluation);
+        when(chessEngine.getBestMoveAsync(eq(position), anyInt(), anyLong())).thenReturn(bestMove);
+
+        // When
+        CompletableFuture<AnalyzePositionUseCase.PositionAnalysis> analysis =
+                new AnalyzePositionUseCase(chessEngine).executeAsync(position);
+        evaluation.complete(20.0);
+        bestMove.complete("e2e4");
+
+        // Then
+        AnalyzePositionUseCase.PositionAnalysis result = analysis.join();
+        assertEquals("e2e4", result.getBestMove());
+        assertEquals(20, result.getLegalMoves().size());
+        assertTrue(result.getLegalMoves().contains("g1f3"));
+        verify(chessEngine, never()).getLegalMoves(anyString());
+    }
+}
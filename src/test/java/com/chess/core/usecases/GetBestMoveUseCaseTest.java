@@ -0,0 +1,87 @@
+package com.chess.core.usecases;
+
+import com.chess.core.entities.Position;
+import com.chess.core.entities.game.EnginePosition;
+import com.chess.core.entities.game.GameState;
+import com.chess.core.entities.game.Move;
+import com.chess.core.ports.ChessEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour la recherche asynchrone du meilleur coup.
+ */
+@ExtendWith(MockitoExtension.class)
+class GetBestMoveUseCaseTest {
+
+    @Mock
+    private ChessEngine chessEngine;
+
+    private GetBestMoveUseCase getBestMoveUseCase;
+    private EnginePosition position;
+    private CompletableFuture<String> engineSearch;
+
+    @BeforeEach
+    void setUp() {
+        getBestMoveUseCase = new GetBestMoveUseCase(chessEngine);
+        GameState gameState = new GameState();
+        gameState.initializeGame();
+        position = EnginePosition.of(gameState);
+        engineSearch = new CompletableFuture<>();
+        when(chessEngine.getBestMoveAsync(eq(position), anyInt(), anyLong())).thenReturn(engineSearch);
+    }
+
+    @Test
+    @DisplayName("Le coup du moteur est converti une fois la recherche terminée")
+    void executeAsync_completesWithParsedMove() throws Exception {
+        // When
+        CompletableFuture<Move> result = getBestMoveUseCase.executeAsync(position);
+        engineSearch.complete("g1f3");
+
+        // Then
+        Move move = result.get();
+        assertEquals(Position.fromAlgebraic("g1"), move.getFrom());
+        assertEquals(Position.fromAlgebraic("f3"), move.getTo());
+    }
+
+    @Test
+    @DisplayName("Annuler le coup demandé annule la recherche du moteur")
+    void executeAsync_cancel_cancelsEngineSearch() {
+        // When
+        CompletableFuture<Move> result = getBestMoveUseCase.executeAsync(position);
+        result.cancel(true);
+
+        // Then
+        assertTrue(engineSearch.isCancelled());
+    }
+
+    @Test
+    @DisplayName("Un délai dépassé annule la recherche du moteur")
+    void executeAsync_timeout_cancelsEngineSearch() {
+        // When
+        CompletableFuture<Move> result = getBestMoveUseCase.executeAsync(position)
+                .orTimeout(10, TimeUnit.MILLISECONDS);
+
+        // Then
+        ExecutionException error = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(TimeoutException.class, error.getCause());
+        // L'annulation suit l'expiration, éventuellement sur le thread du délai
+        assertThrows(CancellationException.class, () -> engineSearch.get(1, TimeUnit.SECONDS));
+    }
+}
@@ -4,7 +4,9 @@ import com.chess.core.entities.Color;
 import com.chess.core.entities.Position;
 import com.chess.core.entities.game.GameState;
 import com.chess.core.entities.game.Move;
+import com.chess.core.entities.game.PositionSnapshot;
 import com.chess.core.entities.pieces.Piece;
+import com.chess.core.entities.pieces.PieceType;
 import com.chess.core.ports.ChessEngine;
 import com.chess.core.ports.MoveLogger;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
@@ -65,6 +70,88 @@ class MovePieceInteractorTest {
         verify(moveLogger, times(1)).logMove(eq("current"), any(Move.class), eq(1));
     }
 
+    @Test
+    @DisplayName("La FEN est calculée une fois par demi-coup et mise à jour après un coup")
+    void toFen_isCachedPerPly() {
+        // Given
+        String before = gameState.toFen();
+        assertSame(before, gameState.toFen());
+
+        // When
+        movePieceInteractor.execute(gameState, Position.fromAlgebraic("e2"), Position.fromAlgebraic("e4"));
+        String after = gameState.toFen();
+
+        // Then
+        assertNotEquals(before, after);
+        assertSame(after, gameState.toFen());
+        // Aucun pion noir ne peut prendre en passant : pas de case e3
+        assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1", after);
+    }
+
+    @Test
+    @DisplayName("Chaque demi-coup publie une nouvelle photographie, l'ancienne restant inchangée")
+    void snapshot_isPublishedPerPlyAndImmutable() {
+        // Given
+        PositionSnapshot before = gameState.getSnapshot();
+
+        // When
+        movePieceInteractor.execute(gameState, Position.fromAlgebraic("e2"), Position.fromAlgebraic("e4"));
+        PositionSnapshot after = gameState.getSnapshot();
+
+        // Then
+        assertNotSame(before, after);
+        assertEquals(Color.WHITE, before.getSideToMove());
+        assertNotNull(before.getPieceAt(Position.fromAlgebraic("e2")));
+        assertNull(before.getPieceAt(Position.fromAlgebraic("e4")));
+        assertEquals(Color.BLACK, after.getSideToMove());
+        assertEquals(Piece.of(PieceType.PAWN, Color.WHITE),
+                after.getPieceAt(Position.fromAlgebraic("e4")));
+        assertNull(after.getEnPassantTarget()); // aucune prise en passant possible
+        assertTrue(after.canCastleKingSide(Color.BLACK));
+        assertTrue(after.matches(gameState.getBoard(), Color.BLACK));
+        assertEquals(after.toFen(), gameState.toFen());
+        assertEquals(after.toFen(), after.toBoard().toFen(Color.BLACK));
+    }
+
+    @Test
+    @DisplayName("Annuler puis rejouer les coups restaure exactement chaque position")
+    void undoRedo_restorePositions() {
+        // Given : une partie avec roque, prise en passant et promotion avec capture
+        gameState.initializeFromFen("r3k2r/1P6/8/8/5p2/8/4P3/R3K2R w KQkq - 0 1");
+        String[] moves = {"e2e4", "f4e3", "e1c1", "e8g8", "b7a8"};
+        List<String> fens = new ArrayList<>();
+        fens.add(gameState.toFen());
+        for (String move : moves) {
+            movePieceInteractor.execute(gameState, Position.fromAlgebraic(move.substring(0, 2)),
+                    Position.fromAlgebraic(move.substring(2, 4)));
+            fens.add(gameState.toFen());
+        }
+        GameState.GameStatus finalStatus = gameState.getStatus();
+
+        // When & Then : retour au début
+        for (int i = moves.length - 1; i >= 0; i--) {
+            assertEquals(moves[i], gameState.undoMove().toAlgebraic().substring(0, 4));
+            assertEquals(fens.get(i), gameState.toFen());
+            assertEquals(i, gameState.getMoveCount());
+        }
+        assertFalse(gameState.canUndo());
+        assertEquals(Color.WHITE, gameState.getActivePlayer());
+
+        // When & Then : retour à la fin
+        for (int i = 0; i < moves.length; i++) {
+            gameState.redoMove();
+            assertEquals(fens.get(i + 1), gameState.toFen());
+        }
+        assertFalse(gameState.canRedo());
+        assertEquals(finalStatus, gameState.getStatus());
+
+        // Un nouveau coup après une annulation abandonne la suite annulée
+        gameState.undoMove();
+        movePieceInteractor.execute(gameState, Position.fromAlgebraic("b7"), Position.fromAlgebraic("b8"));
+        assertFalse(gameState.canRedo());
+        assertEquals(moves.length, gameState.getMoveCount());
+    }
+
     @Test
     @DisplayName("Essayer de déplacer une pièce inexistante lance une exception")
     void execute_noPieceAtSource_shouldThrowException() {
@@ -190,4 +277,50 @@ class MovePieceInteractorTest {
         verify(mockLogger).logMove(eq("current"), any(Move.class), eq(1));
         verifyNoMoreInteractions(mockLogger);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Une triple répétition est détectée pendant la partie")
+    void execute_knightShuffle_shouldDetectThreefoldRepetition() {
+        // Given
+        String[] moves = {"g1f3", "g8f6", "f3g1", "f6g8", "g1f3", "g8f6", "f3g1", "f6g8"};
+
+        // When
+        for (String move : moves) {
+            movePieceInteractor.execute(gameState,
+                    Position.fromAlgebraic(move.substring(0, 2)),
+                    Position.fromAlgebraic(move.substring(2, 4)));
+        }
+
+        // Then
+        assertEquals(3, movePieceInteractor.getDrawDetector(gameState).getRepetitionCount(gameState.toFen()));
+        verify(moveLogger).logEvent(eq("current"), contains("Triple répétition"));
+    }
+
+    @Test
+    @DisplayName("Deux parties entrelacées gardent chacune leur historique de répétitions")
+    void execute_interleavedGames_shouldKeepHistoriesSeparate() {
+        // Given : une seconde partie jouée par le même interactor
+        GameState otherGame = new GameState();
+        otherGame.initializeGame();
+        otherGame.setGameId("autre");
+        String[] shuffle = {"g1f3", "g8f6", "f3g1", "f6g8", "g1f3", "g8f6", "f3g1", "f6g8"};
+        String[] opening = {"e2e4", "e7e5", "d2d4", "e5d4", "d1d4", "b8c6", "d4e3", "g8f6"};
+
+        // When
+        for (int i = 0; i < shuffle.length; i++) {
+            movePieceInteractor.execute(gameState,
+                    Position.fromAlgebraic(shuffle[i].substring(0, 2)),
+                    Position.fromAlgebraic(shuffle[i].substring(2, 4)));
+            movePieceInteractor.execute(otherGame,
+                    Position.fromAlgebraic(opening[i].substring(0, 2)),
+                    Position.fromAlgebraic(opening[i].substring(2, 4)));
+        }
+
+        // Then
+        assertEquals(3, movePieceInteractor.getDrawDetector(gameState).getRepetitionCount(gameState.toFen()));
+        assertEquals(1, movePieceInteractor.getDrawDetector(otherGame).getRepetitionCount(otherGame.toFen()));
+        verify(moveLogger).logEvent(eq("current"), contains("Triple répétition"));
+        verify(moveLogger, never()).logEvent(eq("autre"), contains("Triple répétition"));
+        verify(moveLogger, times(8)).logMove(eq("autre"), any(Move.class), anyInt());
+    }
+}
@@ -0,0 +1,64 @@
+package com.chess.core.usecases;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.game.Board;
+import com.chess.core.entities.game.GameState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du perft sur la suite de positions de référence.
+ */
+class PerftUseCaseTest {
+
+    private static final long NODE_LIMIT = 100_000L;
+
+    @Test
+    @DisplayName("Les nombres de nœuds de la suite de référence sont corrects")
+    void standardSuite_matchesKnownCounts() {
+        PerftUseCase perft = new PerftUseCase();
+
+        for (PerftUseCase.PerftPosition position : PerftUseCase.standardSuite()) {
+            GameState gameState = new GameState();
+            gameState.initializeFromFen(position.getFen());
+            String fenBefore = gameState.toFen();
+
+            for (int depth = 1; depth <= position.getMaxDepth(); depth++) {
+                long expected = position.getExpectedNodes(depth);
+                if (expected > NODE_LIMIT) {
+                    break;
+                }
+                assertEquals(expected, perft.execute(gameState, depth),
+                        position.getName() + " profondeur " + depth);
+            }
+            assertEquals(fenBefore, gameState.toFen());
+        }
+    }
+
+    @Test
+    @DisplayName("Le divide, le mode parallèle et le cache donnent le même total")
+    void divideParallelAndCache_agree() {
+        // Given
+        Board board = new Board();
+        board.setupFromFen("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        PerftUseCase perft = new PerftUseCase();
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        // When
+        Map<String, Long> divide = perft.divide(board, Color.WHITE, 3);
+        Map<String, Long> parallel = perft.divideParallel(board, Color.WHITE, 3, pool);
+        long cached = new PerftUseCase(1).perft(board, Color.WHITE, 3);
+        pool.shutdown();
+
+        // Then
+        assertEquals(48, divide.size());
+        assertEquals(97862L, divide.values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(divide, parallel);
+        assertEquals(97862L, cached);
+    }
+}
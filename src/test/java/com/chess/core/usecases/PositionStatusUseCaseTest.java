@@ -0,0 +1,56 @@
+package com.chess.core.usecases;
+
+import com.chess.core.entities.Color;
+import com.chess.core.entities.game.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'évaluation du statut d'une position.
+ */
+class PositionStatusUseCaseTest {
+
+    private PositionStatusUseCase positionStatus;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        positionStatus = new PositionStatusUseCase();
+        board = new Board();
+    }
+
+    @Test
+    @DisplayName("Échec et mat du couloir détecté en une évaluation")
+    void evaluate_backRankMate() {
+        // Given
+        board.setupFromFen("3R2k1/5ppp/8/8/8/8/8/6K1 b - - 0 1");
+
+        // When
+        PositionStatusUseCase.PositionStatus status = positionStatus.evaluate(board, Color.BLACK);
+
+        // Then
+        assertTrue(status.isInCheck());
+        assertFalse(status.hasLegalMove());
+        assertTrue(status.isCheckmate());
+        assertFalse(status.isStalemate());
+        assertFalse(status.isInsufficientMaterial());
+    }
+
+    @Test
+    @DisplayName("Fous de couleurs différentes : le matériel reste suffisant")
+    void evaluate_oppositeColoredBishops() {
+        // Given : fou blanc sur case claire (e2), fou noir sur case foncée (e5)
+        board.setupFromFen("8/8/8/3kb3/8/8/4B3/3K4 w - - 0 1");
+
+        // When
+        PositionStatusUseCase.PositionStatus status = positionStatus.evaluate(board, Color.WHITE);
+
+        // Then
+        assertFalse(status.isInsufficientMaterial());
+        assertTrue(status.hasLegalMove());
+        assertFalse(status.isDeadPosition());
+    }
+}
@@ -0,0 +1,169 @@
+package com.chess.dataproviders.cache;
+
+import com.chess.core.entities.game.EnginePosition;
+import com.chess.core.entities.game.EvaluationResult;
+import com.chess.core.entities.game.GameState;
+import com.chess.core.entities.game.SearchResult;
+import com.chess.core.ports.ChessEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour le cache placé devant le moteur.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingChessEngineTest {
+    private static final String FEN = "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1";
+
+    @Mock
+    private ChessEngine chessEngine;
+
+    private CachingChessEngine cachingEngine;
+
+    @BeforeEach
+    void setUp() {
+        cachingEngine = new CachingChessEngine(chessEngine, EvaluationCache.inMemory(100));
+    }
+
+    @Test
+    @DisplayName("La même position, quels que soient ses compteurs de coups, n'est cherchée qu'une fois")
+    void getBestMove_samePosition_shouldQueryEngineOnce() {
+        // Given
+        when(chessEngine.search(anyString(), anyInt(), anyLong())).thenReturn(SearchResult.of("e7e5", 15, false));
+        cachingEngine.getBestMove(FEN, 15, 1000);
+
+        // When
+        String move = cachingEngine.getBestMove(FEN.replace(" 0 1", " 4 9"), 12, 1000);
+
+        // Then
+        assertEquals("e7e5", move);
+        verify(chessEngine, times(1)).search(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Une demande plus profonde ou à un autre niveau interroge le moteur")
+    void getBestMove_deeperOrOtherLevel_shouldQueryEngine() {
+        // Given
+        when(chessEngine.search(anyString(), anyInt(), anyLong())).thenReturn(
+                SearchResult.of("e7e5", 10, false), SearchResult.of("c7c5", 15, false), SearchResult.of("d7d5", 10, false));
+        cachingEngine.getBestMove(FEN, 10, 1000);
+
+        // When
+        String deeper = cachingEngine.getBestMove(FEN, 15, 1000);
+        cachingEngine.setSkillLevel(5);
+        String otherLevel = cachingEngine.getBestMove(FEN, 10, 1000);
+
+        // Then
+        assertEquals("c7c5", deeper);
+        assertEquals("d7d5", otherLevel);
+        verify(chessEngine, times(3)).search(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Un coup trouvé avant la limite de temps ne vaut que pour la profondeur atteinte")
+    void getBestMove_timeLimitedSearch_shouldStoreReachedDepth() {
+        // Given : 50 demandés, le temps est épuisé à la profondeur 18
+        when(chessEngine.search(anyString(), anyInt(), anyLong())).thenReturn(
+                SearchResult.of("e7e5", 18, false), SearchResult.of("c7c5", 30, false));
+        cachingEngine.getBestMove(FEN, 50, 5000);
+
+        // When
+        String shallow = cachingEngine.getBestMove(FEN, 18, 5000);
+        String deeper = cachingEngine.getBestMove(FEN, 30, 5000);
+
+        // Then
+        assertEquals("e7e5", shallow);
+        assertEquals("c7c5", deeper);
+        verify(chessEngine, times(2)).search(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Une recherche interrompue n'est pas gardée en cache")
+    void getBestMove_interruptedSearch_shouldNotBeStored() {
+        // Given
+        when(chessEngine.search(anyString(), anyInt(), anyLong())).thenReturn(
+                SearchResult.of("e7e5", 12, true), SearchResult.of("c7c5", 12, false));
+        cachingEngine.getBestMove(FEN, 12, 1000);
+
+        // When
+        String move = cachingEngine.getBestMove(FEN, 12, 1000);
+
+        // Then
+        assertEquals("c7c5", move);
+        verify(chessEngine, times(2)).search(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Une recherche asynchrone déjà en cache se termine sans le moteur")
+    void getBestMoveAsync_cachedPosition_shouldCompleteImmediately() {
+        // Given
+        GameState gameState = new GameState();
+        gameState.initializeGame();
+        EnginePosition position = EnginePosition.of(gameState);
+        CompletableFuture<SearchResult> search = new CompletableFuture<>();
+        when(chessEngine.searchAsync(any(EnginePosition.class), anyInt(), anyLong())).thenReturn(search);
+        CompletableFuture<String> first = cachingEngine.getBestMoveAsync(position, 12, 1000);
+        search.complete(SearchResult.of("g1f3", 14, false));
+
+        // When
+        CompletableFuture<String> second = cachingEngine.getBestMoveAsync(position, 12, 1000);
+
+        // Then
+        assertEquals("g1f3", first.join());
+        assertTrue(second.isDone());
+        assertEquals("g1f3", second.join());
+        verify(chessEngine, times(1)).searchAsync(any(EnginePosition.class), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Une évaluation complète est réutilisée, une évaluation interrompue ou sans profondeur non")
+    void evaluatePosition_shouldOnlyReuseCompleteEvaluations() {
+        // Given
+        when(chessEngine.evaluate(anyString())).thenReturn(
+                EvaluationResult.of(12, 15, true),
+                EvaluationResult.of(30, SearchResult.UNKNOWN_DEPTH, false),
+                EvaluationResult.of(25, 15, false));
+
+        // When
+        double interrupted = cachingEngine.evaluatePosition(FEN);
+        double withoutDepth = cachingEngine.evaluatePosition(FEN);
+        double complete = cachingEngine.evaluatePosition(FEN);
+        double cached = cachingEngine.evaluatePosition(FEN);
+
+        // Then
+        assertEquals(12, interrupted);
+        assertEquals(30, withoutDepth);
+        assertEquals(25, complete);
+        assertEquals(25, cached);
+        verify(chessEngine, times(3)).evaluate(anyString());
+    }
+
+    @Test
+    @DisplayName("Une évaluation moins profonde que demandé ne sert pas les demandes suivantes")
+    void evaluatePosition_shallowEvaluation_shouldNotBeReused() {
+        // Given
+        when(chessEngine.evaluate(anyString())).thenReturn(
+                EvaluationResult.of(40, 9, false), EvaluationResult.of(35, 15, false));
+        cachingEngine.evaluatePosition(FEN);
+
+        // When
+        double score = cachingEngine.evaluatePosition(FEN);
+
+        // Then
+        assertEquals(35, score);
+        verify(chessEngine, times(2)).evaluate(anyString());
+    }
+}
@@ -0,0 +1,93 @@
+package com.chess.dataproviders.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le cache d'évaluations à deux niveaux.
+ */
+class EvaluationCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Un coup n'est réutilisé que pour une profondeur au plus égale à la sienne")
+    void getBestMove_shouldRequireStoredDepth() {
+        // Given
+        EvaluationCache cache = EvaluationCache.inMemory(10);
+        cache.putBestMove(42L, 12, "e2e4");
+
+        // When
+        cache.putBestMove(42L, 8, "d2d4");
+
+        // Then
+        assertEquals("e2e4", cache.getBestMove(42L, 10));
+        assertEquals("e2e4", cache.getBestMove(42L, 12));
+        assertNull(cache.getBestMove(42L, 15));
+    }
+
+    @Test
+    @DisplayName("Le niveau disque conserve coups et évaluations après réouverture")
+    void open_shouldReloadEntriesFromDisk() throws Exception {
+        // Given
+        Path file = tempDir.resolve("evaluations.cache");
+        try (EvaluationCache cache = EvaluationCache.open(file, 10, 1024)) {
+            cache.putBestMove(7L, 20, "g1f3");
+            cache.putEvaluation(7L, 15, 0.35);
+            cache.putBestMove(0L, 5, "e7e8q");
+        }
+
+        // When
+        try (EvaluationCache reopened = EvaluationCache.open(file, 10, 1024)) {
+
+            // Then
+            assertEquals(0, reopened.getMemorySize());
+            assertEquals("g1f3", reopened.getBestMove(7L, 18));
+            assertNull(reopened.getBestMove(7L, 21));
+            assertEquals(0.35, reopened.getEvaluation(7L, 15));
+            assertNull(reopened.getEvaluation(7L, 16));
+            assertEquals("e7e8q", reopened.getBestMove(0L, 5));
+            assertNull(reopened.getEvaluation(8L, 1));
+            assertEquals(2, reopened.getMemorySize());
+        }
+    }
+
+    @Test
+    @DisplayName("Un seau plein remplace l'entrée la moins profonde")
+    void putBestMove_fullBucket_shouldEvictShallowestEntry() throws Exception {
+        // Given : des clés qui tombent toutes dans la case 0 d'un fichier de 4 cases
+        Path file = tempDir.resolve("small.cache");
+        try (EvaluationCache cache = EvaluationCache.open(file, 1, 4)) {
+            for (int i = 1; i <= 4; i++) {
+                cache.putBestMove(i * 16L, 10 + i, "a2a" + i);
+            }
+
+            // When
+            cache.putBestMove(80L, 20, "h2h4");
+        }
+
+        // Then
+        try (EvaluationCache reopened = EvaluationCache.open(file, 1, 4)) {
+            assertNull(reopened.getBestMove(16L, 1));
+            assertEquals("a2a2", reopened.getBestMove(32L, 12));
+            assertEquals("h2h4", reopened.getBestMove(80L, 20));
+        }
+    }
+
+    @Test
+    @DisplayName("Un fichier trop grand pour être projeté est refusé")
+    void open_tooManySlots_shouldBeRejected() {
+        // Given
+        Path file = tempDir.resolve("huge.cache");
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> EvaluationCache.open(file, 10, MappedEvaluationFile.MAX_SLOTS << 1));
+    }
+}
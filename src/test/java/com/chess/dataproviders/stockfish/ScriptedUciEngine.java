@@ -0,0 +1,50 @@
+package com.chess.dataproviders.stockfish;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Moteur UCI simulé pour les tests, lancé dans son propre processus : répond au protocole de
+ * base et joue toujours le premier coup du script, {@code e2e4} par défaut. La position
+ * {@code fen crash} le fait s'arrêter brutalement.
+ */
+public final class ScriptedUciEngine {
+
+    private ScriptedUciEngine() {
+    }
+
+    /**
+     * Ligne de commande lançant ce simulateur avec la JVM et le classpath courants.
+     */
+    public static List<String> command(String bestMove) {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        return List.of(java, "-cp", System.getProperty("java.class.path"),
+                ScriptedUciEngine.class.getName(), bestMove);
+    }
+
+    public static void main(String[] args) throws IOException {
+        String bestMove = args.length > 0 ? args[0] : "e2e4";
+        PrintStream out = System.out;
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.equals("uci")) {
+                out.println("id name ScriptedUciEngine");
+                out.println("uciok");
+            } else if (line.equals("isready")) {
+                out.println("readyok");
+            } else if (line.equals("position fen crash")) {
+                System.exit(1);
+            } else if (line.startsWith("go")) {
+                out.println("info depth 1 score cp 25 nodes 20 pv " + bestMove);
+                out.println("bestmove " + bestMove);
+            } else if (line.equals("quit")) {
+                return;
+            }
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.chess.dataproviders.stockfish;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le suivi d'une recherche UCI.
+ */
+class SearchMonitorTest {
+
+    @Test
+    @DisplayName("La recherche s'arrête quand coup et score sont stables sur plusieurs profondeurs")
+    void onLine_stableBestMoveAndScore_requestsStop() {
+        // Given
+        SearchMonitor monitor = new SearchMonitor(true, SearchMonitor.NO_DEADLINE, 0);
+
+        // When / Then : les profondeurs faibles ne comptent pas
+        for (int depth = 1; depth < SearchMonitor.MIN_STABLE_DEPTH; depth++) {
+            assertFalse(monitor.onLine(info(depth, "cp 30", "e2e4 e7e5"), 0));
+        }
+        assertFalse(monitor.onLine("info depth 10 currmove d2d4 currmovenumber 2", 0));
+        assertFalse(monitor.onLine(info(10, "cp 35", "d2d4 d7d5"), 0));
+        assertFalse(monitor.onLine(info(11, "cp 120 lowerbound", "c2c4"), 0));
+        assertFalse(monitor.onLine(info(11, "cp 32", "e2e4 e7e5"), 0));
+        assertFalse(monitor.onLine(info(12, "cp 40", "e2e4 e7e5"), 0));
+        assertFalse(monitor.onLine(info(13, "cp 38", "e2e4 c7c5"), 0));
+        assertTrue(monitor.onLine(info(14, "cp 36", "e2e4 e7e5"), 0));
+
+        assertEquals("e2e4", monitor.getBestMove());
+        assertEquals(36, monitor.getScore());
+        assertEquals(14, monitor.getDepth());
+    }
+
+    @Test
+    @DisplayName("Un changement de coup relance le compte de stabilité")
+    void onLine_bestMoveChange_resetsStability() {
+        SearchMonitor monitor = new SearchMonitor(true, SearchMonitor.NO_DEADLINE, 0);
+        monitor.onLine(info(10, "cp 30", "e2e4"), 0);
+        monitor.onLine(info(11, "cp 30", "e2e4"), 0);
+        monitor.onLine(info(12, "cp 30", "e2e4"), 0);
+
+        assertFalse(monitor.onLine(info(13, "cp 31", "d2d4"), 0));
+        assertFalse(monitor.onLine(info(14, "cp 31", "d2d4"), 0));
+        assertEquals("d2d4", monitor.getBestMove());
+    }
+
+    @Test
+    @DisplayName("Le budget de temps, la limite de nœuds et les scores de mat sont pris en compte")
+    void onLine_deadlineNodesAndMate() {
+        SearchMonitor timed = new SearchMonitor(false, 1_000, 0);
+        assertFalse(timed.onLine(info(5, "cp 10", "e2e4"), 999));
+        assertTrue(timed.onLine(info(6, "cp 10", "e2e4"), 1_000));
+
+        SearchMonitor limited = new SearchMonitor(false, SearchMonitor.NO_DEADLINE, 5_000);
+        assertFalse(limited.onLine("info depth 5 score cp 10 nodes 4000 pv e2e4", 0));
+        assertTrue(limited.onLine("info depth 6 score cp 10 nodes 6000 pv e2e4", 0));
+
+        SearchMonitor mate = new SearchMonitor(false, SearchMonitor.NO_DEADLINE, 0);
+        mate.onLine(info(8, "mate -2", "g8h8 a1a8"), 0);
+        assertEquals(-SearchMonitor.MATE_SCORE + 2, mate.getScore());
+
+        assertEquals("e2e4", SearchMonitor.parseBestMove("bestmove e2e4 ponder e7e5"));
+        assertNull(SearchMonitor.parseBestMove("bestmove (none)"));
+    }
+
+    private static String info(int depth, String score, String pv) {
+        return "info depth " + depth + " seldepth " + (depth + 4) + " multipv 1 score " + score
+                + " nodes " + depth * 1000 + " nps 1000000 pv " + pv;
+    }
+}
@@ -0,0 +1,97 @@
+package com.chess.dataproviders.stockfish;
+
+import com.chess.core.entities.game.EnginePosition;
+import com.chess.core.entities.game.GameState;
+import com.chess.core.entities.game.PositionSnapshot;
+import com.chess.core.ports.ChessEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du pool de moteurs, avec un moteur UCI simulé.
+ */
+class StockfishEnginePoolTest {
+
+    private StockfishEnginePool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new StockfishEnginePool(2,
+                () -> new StockfishEngine(() -> new StockfishProcess(ScriptedUciEngine.command("g1f3"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.stop();
+    }
+
+    @Test
+    @DisplayName("Une partie retrouve son moteur, et une demande attend qu'un moteur soit rendu")
+    void lease_keepsGameAffinityAndWaitsForReturn() throws Exception {
+        // Given
+        StockfishEnginePool.Lease first = pool.lease("partie-1");
+        StockfishEnginePool.Lease second = pool.lease("partie-2");
+        ChessEngine engineOfGame1 = first.getEngine();
+        second.close();
+        first.close();
+
+        // When : la partie 1 revient alors que le moteur le moins récemment rendu est l'autre
+        StockfishEnginePool.Lease again = pool.lease("partie-1");
+        StockfishEnginePool.Lease other = pool.lease(null);
+        CompletableFuture<StockfishEnginePool.Lease> waiting = pool.leaseAsync("partie-3");
+
+        // Then
+        assertSame(engineOfGame1, again.getEngine());
+        assertEquals(0, pool.getAvailableCount());
+        assertFalse(waiting.isDone());
+        other.close();
+        assertTrue(waiting.isDone());
+        waiting.join().close();
+        again.close();
+        assertEquals(2, pool.getAvailableCount());
+    }
+
+    @Test
+    @DisplayName("Les requêtes passent par le processus UCI et un moteur mort est remplacé")
+    void requests_useUciProcessAndDeadEnginesAreReplaced() throws Exception {
+        // When
+        String bestMove = pool.getBestMove("4k3/8/8/8/8/8/8/4K1N1 w - - 0 1", 10, 1000);
+        assertEquals("g1f3", bestMove);
+
+        StockfishEnginePool.Lease lease = pool.lease(null);
+        try {
+            lease.getEngine().getBestMove("crash", 10, 1000);
+        } catch (RuntimeException e) {
+            // Le processus peut mourir avant ou après la lecture de la commande go
+        }
+        StockfishEngine crashed = (StockfishEngine) lease.getEngine();
+        waitForDeath(crashed);
+        lease.close();
+
+        // Then
+        assertEquals(1, pool.checkHealth());
+        assertEquals(1, pool.getReplacementCount());
+        assertEquals("g1f3", pool.getBestMoveAsync(EnginePosition.of(startSnapshot()), 10, 1000)
+                .get(10, TimeUnit.SECONDS));
+    }
+
+    private static void waitForDeath(StockfishEngine engine) throws InterruptedException {
+        for (int i = 0; i < 100 && !engine.hasDied(); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(engine.hasDied());
+    }
+
+    private static PositionSnapshot startSnapshot() {
+        GameState gameState = new GameState();
+        gameState.initializeGame();
+        return gameState.getCurrentSnapshot();
+    }
+}
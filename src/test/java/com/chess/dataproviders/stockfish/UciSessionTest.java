@@ -0,0 +1,68 @@
+package com.chess.dataproviders.stockfish;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la session UCI d'un processus moteur.
+ */
+class UciSessionTest {
+
+    private UciSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = new UciSession();
+    }
+
+    @Test
+    @DisplayName("Une partie ne déclenche ucinewgame qu'au début et la position n'est envoyée qu'une fois par coup")
+    void prepare_sameGame_onlySendsNewPositions() {
+        // When / Then : début de partie
+        assertEquals(List.of("ucinewgame", "position startpos moves e2e4", "isready"),
+                session.prepare("partie-1", UciSession.START_FEN, List.of("e2e4")));
+
+        // Même position (approfondissement, évaluation puis meilleur coup) : rien à renvoyer
+        assertEquals(List.of(), session.prepare("partie-1", UciSession.START_FEN, List.of("e2e4")));
+
+        // Coups ajoutés : seule la commande de position
+        assertEquals(List.of("position startpos moves e2e4 e7e5 g1f3"),
+                session.prepare("partie-1", UciSession.START_FEN, List.of("e2e4", "e7e5", "g1f3")));
+    }
+
+    @Test
+    @DisplayName("Une autre partie ou une ligne qui ne prolonge pas la précédente recommence une partie")
+    void prepare_newGameOrDivergingLine_sendsUciNewGame() {
+        session.prepare("partie-1", UciSession.START_FEN, List.of("e2e4", "e7e5"));
+
+        // Même identifiant mais nouvelle partie (la ligne ne prolonge pas celle envoyée)
+        assertEquals(List.of("ucinewgame", "position startpos", "isready"),
+                session.prepare("partie-1", UciSession.START_FEN, List.of()));
+
+        // Autre partie depuis une FEN
+        String fen = "4k3/8/8/8/8/8/4P3/4K3 w - - 0 1";
+        assertEquals(List.of("ucinewgame", "position fen " + fen + " moves e2e4", "isready"),
+                session.prepare("partie-2", fen, List.of("e2e4")));
+    }
+
+    @Test
+    @DisplayName("Les positions isolées n'envoient pas ucinewgame et isready suit un changement d'option")
+    void prepare_isolatedPositionsAndOptions() {
+        String fen = "4k3/8/8/8/8/8/4P3/4K3 b - - 0 1";
+        assertEquals(List.of("position fen " + fen), session.prepare(null, fen, List.of()));
+        assertEquals(List.of(), session.prepare(null, fen, List.of()));
+
+        // When
+        session.optionChanged();
+
+        // Then
+        assertEquals(List.of("isready"), session.prepare(null, fen, List.of()));
+        session.reset();
+        assertEquals(List.of("position fen " + fen), session.prepare(null, fen, List.of()));
+    }
+}